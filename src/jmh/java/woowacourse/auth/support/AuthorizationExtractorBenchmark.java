@@ -0,0 +1,36 @@
+package woowacourse.auth.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthorizationExtractorBenchmark {
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    @Setup
+    public void setUp() {
+        request.addHeader(AuthorizationExtractor.AUTHORIZATION,
+                "Bearer eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJwdXRlcmlzbSIsImN1c3RvbWVySWQiOjF9.signature");
+    }
+
+    @Benchmark
+    public String extract() {
+        return AuthorizationExtractor.extract(request);
+    }
+}
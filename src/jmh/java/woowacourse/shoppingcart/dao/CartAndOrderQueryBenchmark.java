@@ -0,0 +1,130 @@
+package woowacourse.shoppingcart.dao;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.util.StreamUtils;
+import woowacourse.shoppingcart.domain.Cart;
+import woowacourse.shoppingcart.domain.Orders;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CartAndOrderQueryBenchmark {
+    private static final int CUSTOMERS = 10_000;
+    private static final int PRODUCTS = 1_000;
+    private static final int CART_ITEMS_PER_CUSTOMER = 20;
+    private static final int ORDERS_PER_CUSTOMER = 5;
+    private static final int DETAILS_PER_ORDER = 3;
+
+    @Param({"indexed", "unindexed"})
+    private String schema;
+
+    private SingleConnectionDataSource dataSource;
+    private CartItemDao cartItemDao;
+    private OrdersDao ordersDao;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:" + schema + ";MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        createSchema(jdbcTemplate);
+        seed(jdbcTemplate);
+
+        cartItemDao = new CartItemDao(jdbcTemplate);
+        ordersDao = new OrdersDao(jdbcTemplate);
+    }
+
+    private void createSchema(JdbcTemplate jdbcTemplate) throws IOException {
+        String script = StreamUtils.copyToString(
+                new ClassPathResource("schema.sql").getInputStream(), StandardCharsets.UTF_8);
+        Arrays.stream(script.split(";"))
+                .map(String::trim)
+                .filter(statement -> !statement.isEmpty())
+                .filter(statement -> schema.equals("indexed") || !isIndexOrConstraint(statement))
+                .forEach(jdbcTemplate::execute);
+    }
+
+    private boolean isIndexOrConstraint(String statement) {
+        return statement.startsWith("create index") || statement.contains("add constraint");
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.batchUpdate("INSERT INTO customer (username, password) VALUES (?, ?)",
+                IntStream.range(0, CUSTOMERS)
+                        .mapToObj(i -> new Object[]{"customer" + i, "password"})
+                        .collect(Collectors.toList()));
+        jdbcTemplate.batchUpdate("INSERT INTO product (name, price, image_url) VALUES (?, ?, ?)",
+                IntStream.range(0, PRODUCTS)
+                        .mapToObj(i -> new Object[]{"product" + i, 1_000 + i, "https://example.com/" + i + ".jpg"})
+                        .collect(Collectors.toList()));
+        jdbcTemplate.batchUpdate("INSERT INTO cart_item (customer_id, product_id, quantity) VALUES (?, ?, ?)",
+                IntStream.range(0, CUSTOMERS * CART_ITEMS_PER_CUSTOMER)
+                        .mapToObj(i -> new Object[]{
+                                i / CART_ITEMS_PER_CUSTOMER + 1,
+                                (i * 37 + i / CART_ITEMS_PER_CUSTOMER) % PRODUCTS + 1,
+                                1})
+                        .collect(Collectors.toList()));
+        jdbcTemplate.batchUpdate("INSERT INTO orders (customer_id, total_price) VALUES (?, ?)",
+                IntStream.range(0, CUSTOMERS * ORDERS_PER_CUSTOMER)
+                        .mapToObj(i -> new Object[]{i / ORDERS_PER_CUSTOMER + 1, 3_000})
+                        .collect(Collectors.toList()));
+        jdbcTemplate.batchUpdate("INSERT INTO orders_detail (orders_id, product_id, quantity, name, price, image_url) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                IntStream.range(0, CUSTOMERS * ORDERS_PER_CUSTOMER * DETAILS_PER_ORDER)
+                        .mapToObj(i -> new Object[]{i / DETAILS_PER_ORDER + 1, i % PRODUCTS + 1, 1,
+                                "product" + i % PRODUCTS, 1_000, "https://example.com/" + i % PRODUCTS + ".jpg"})
+                        .collect(Collectors.toList()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<Cart> findCartsByCustomerId() {
+        return cartItemDao.findCartsByCustomerId(randomCustomerId());
+    }
+
+    @Benchmark
+    public boolean existByCustomerIdAndProductId() {
+        return cartItemDao.existByCustomerIdAndProductId(randomCustomerId(), (long) ThreadLocalRandom.current().nextInt(PRODUCTS) + 1);
+    }
+
+    @Benchmark
+    public List<Orders> findOrdersByCustomerId() {
+        return ordersDao.findOrdersByCustomerId(randomCustomerId());
+    }
+
+    private long randomCustomerId() {
+        return ThreadLocalRandom.current().nextInt(CUSTOMERS) + 1;
+    }
+}
@@ -0,0 +1,70 @@
+package woowacourse.shoppingcart.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerValidationBenchmark {
+    @Param({"puterism", "a_very_long_user_20c"})
+    private String userName;
+
+    @Param({"Test1234*", "Abcdefgh12345!@#"})
+    private String password;
+
+    @Benchmark
+    public void validation(Blackhole blackhole) {
+        UserName name = new UserName(userName);
+        name.validateFormat();
+        Password userPassword = new Password(password);
+        userPassword.validateFormat();
+
+        blackhole.consume(name);
+        blackhole.consume(userPassword);
+    }
+
+    @Benchmark
+    public void legacyValidation(Blackhole blackhole) {
+        UserName name = new UserName(legacyValidateUserName(userName));
+        Password userPassword = new Password(legacyValidatePassword(password));
+
+        blackhole.consume(name);
+        blackhole.consume(userPassword);
+    }
+
+    private static String legacyValidateUserName(String userName) {
+        if (userName.length() < 5 || userName.length() > 20) {
+            throw new IllegalArgumentException("이름은 5자 이상 20자 이하이어야 합니다.");
+        }
+        if (!Pattern.compile("^[a-z0-9_]*$").matcher(userName).find()) {
+            throw new IllegalArgumentException("이름은 소문자, 숫자, 언더스코어만을 포함할 수 있습니다.");
+        }
+        return userName;
+    }
+
+    private static String legacyValidatePassword(String password) {
+        if (password.length() < 8 || password.length() > 16) {
+            throw new IllegalArgumentException("비밀번호는 8자 이상 16자 이하이어야 합니다.");
+        }
+        if (!Pattern.compile("^(?=.*[a-z])(?=.*[A-Z])(?=.*[0-9])(?=.*[^a-zA-Z0-9ㄱ-힣])").matcher(password).find()) {
+            throw new IllegalArgumentException("비밀번호는 소문자, 대문자, 숫자, 특수문자를 모두 포함해야 합니다.");
+        }
+        return password;
+    }
+}
@@ -0,0 +1,70 @@
+package woowacourse.shoppingcart.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import woowacourse.shoppingcart.domain.OrderDetail;
+import woowacourse.shoppingcart.domain.Orders;
+import woowacourse.shoppingcart.domain.Product;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Param({"20", "100"})
+    private int size;
+
+    private List<ProductResponse> products;
+    private List<Orders> orders;
+
+    @Setup
+    public void setUp() {
+        products = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> ProductResponse.of(product(id), id, 3))
+                .collect(Collectors.toList());
+        orders = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> order(id, List.of(
+                        new OrderDetail(product(id), 1),
+                        new OrderDetail(product(id + 1), 2),
+                        new OrderDetail(product(id + 2), 3))))
+                .collect(Collectors.toList());
+    }
+
+    private Orders order(long id, List<OrderDetail> orderDetails) {
+        return new Orders(id, Orders.totalPriceOf(orderDetails), orderDetails);
+    }
+
+    private Product product(long id) {
+        return new Product(id, "product" + id, 1_000 + (int) id, "https://example.com/images/" + id + ".jpg");
+    }
+
+    @Benchmark
+    public byte[] productResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] orders() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orders);
+    }
+}
@@ -0,0 +1,32 @@
+package woowacourse.shoppingcart.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SHA256EncryptorBenchmark {
+    private final Encryptor encryptor = new SHA256Encryptor();
+
+    @Param({"Test1234*", "Abcdefgh12345!@#", "Test1234한글*"})
+    private String password;
+
+    @Benchmark
+    public String encrypt() {
+        return encryptor.encrypt(password);
+    }
+}
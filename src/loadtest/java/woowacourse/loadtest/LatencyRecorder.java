@@ -0,0 +1,56 @@
+package woowacourse.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private volatile long measurementStartNanos = Long.MAX_VALUE;
+
+    public void startMeasurement(long startNanos) {
+        this.measurementStartNanos = startNanos;
+    }
+
+    public void record(String endpoint, long intendedStartNanos, boolean success) {
+        if (intendedStartNanos < measurementStartNanos) {
+            return;
+        }
+
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3))
+                .recordValue(Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    public void report(PrintStream out) {
+        out.printf("%-40s %8s %7s %10s %10s %10s %10s%n", "endpoint", "count", "errors", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        histograms.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    Histogram histogram = entry.getValue();
+                    out.printf("%-40s %8d %7d %10.2f %10.2f %10.2f %10.2f%n",
+                            entry.getKey(),
+                            histogram.getTotalCount(),
+                            errors.getOrDefault(entry.getKey(), new LongAdder()).sum(),
+                            millis(histogram.getValueAtPercentile(50)),
+                            millis(histogram.getValueAtPercentile(99)),
+                            millis(histogram.getValueAtPercentile(99.9)),
+                            millis(histogram.getMaxValue()));
+                });
+    }
+
+    private double millis(long micros) {
+        return micros / 1_000.0;
+    }
+}
@@ -0,0 +1,173 @@
+package woowacourse.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import woowacourse.Application;
+import woowacourse.shoppingcart.support.SHA256Encryptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Boots the application on a random port with a seeded in-memory database and drives an open-model workload
+ * at a fixed arrival rate. The first request of each iteration is measured from its intended start time, so a
+ * stalled server is charged for the requests it delayed (coordinated-omission correction). A follow-up request
+ * that needs the previous response is measured from when it is sent, and the whole chain is also recorded as a
+ * {@code scenario} entry from the iteration's intended start.
+ *
+ * <p>Tune with {@code -Dloadtest.rate}, {@code -Dloadtest.duration}, {@code -Dloadtest.warmup} (seconds),
+ * {@code -Dloadtest.customers} and {@code -Dloadtest.products}.
+ */
+public class LoadTest {
+    private static final String PASSWORD = "Test1234*";
+
+    private static final int RATE = Integer.getInteger("loadtest.rate", 200);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration", 60);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup", 10);
+    private static final int CUSTOMERS = Integer.getInteger("loadtest.customers", 100);
+    private static final int PRODUCTS = Integer.getInteger("loadtest.products", 1_000);
+
+    private final ShopClient client;
+    private final LatencyRecorder recorder;
+    private final List<String> userNames;
+    private final List<String> tokens;
+    private final List<Long> productIds;
+
+    private LoadTest(ShopClient client, LatencyRecorder recorder, List<String> userNames, List<String> tokens,
+                     List<Long> productIds) {
+        this.client = client;
+        this.recorder = recorder;
+        this.userNames = userNames;
+        this.tokens = tokens;
+        this.productIds = productIds;
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run(args)) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            List<String> userNames = seedCustomers(jdbcTemplate);
+            List<Long> productIds = seedProducts(jdbcTemplate);
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            ShopClient client = new ShopClient(port, recorder);
+            List<String> tokens = new ArrayList<>();
+            for (String userName : userNames) {
+                tokens.add(client.login(userName, PASSWORD, System.nanoTime()).join().orElseThrow());
+            }
+
+            new LoadTest(client, recorder, userNames, tokens, productIds).run();
+            recorder.report(System.out);
+        }
+    }
+
+    private static List<String> seedCustomers(JdbcTemplate jdbcTemplate) {
+        String encryptedPassword = new SHA256Encryptor().encrypt(PASSWORD);
+        List<String> userNames = IntStream.range(0, CUSTOMERS)
+                .mapToObj(i -> String.format("loadtest_%05d", i))
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO customer (username, password) VALUES (?, ?)",
+                userNames.stream()
+                        .map(userName -> new Object[]{userName, encryptedPassword})
+                        .collect(Collectors.toList()));
+        return userNames;
+    }
+
+    private static List<Long> seedProducts(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.batchUpdate("INSERT INTO product (name, price, image_url) VALUES (?, ?, ?)",
+                IntStream.range(0, PRODUCTS)
+                        .mapToObj(i -> new Object[]{"상품" + i, 1_000 + i % 50 * 100, "https://example.com/" + i + ".jpg"})
+                        .collect(Collectors.toList()));
+        return jdbcTemplate.queryForList("SELECT id FROM product", Long.class);
+    }
+
+    private void run() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long startNanos = System.nanoTime();
+        long measurementStartNanos = startNanos + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long endNanos = measurementStartNanos + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        recorder.startMeasurement(measurementStartNanos);
+
+        Queue<CompletableFuture<?>> inFlight = new ConcurrentLinkedQueue<>();
+        for (long intendedStartNanos = startNanos; intendedStartNanos < endNanos; intendedStartNanos += intervalNanos) {
+            long waitNanos = intendedStartNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            CompletableFuture<?> iteration = nextIteration(intendedStartNanos);
+            inFlight.add(iteration);
+            iteration.whenComplete((ignored, error) -> inFlight.remove(iteration));
+        }
+
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get(1, TimeUnit.MINUTES);
+        } catch (TimeoutException | ExecutionException e) {
+            System.err.println("Some requests did not complete: " + e);
+        }
+    }
+
+    private CompletableFuture<?> nextIteration(long intendedStartNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int customer = random.nextInt(userNames.size());
+        String token = tokens.get(customer);
+        long productId = productIds.get(random.nextInt(productIds.size()));
+
+        int scenario = random.nextInt(100);
+        if (scenario < 60) {
+            return scenario("browse", intendedStartNanos, browse(productId, intendedStartNanos));
+        }
+        if (scenario < 70) {
+            return client.login(userNames.get(customer), PASSWORD, intendedStartNanos);
+        }
+        if (scenario < 90) {
+            return scenario("add to cart", intendedStartNanos,
+                    addToCart(token, productId, random.nextInt(1, 10), intendedStartNanos));
+        }
+        return scenario("checkout", intendedStartNanos, checkout(token, productId, intendedStartNanos));
+    }
+
+    private CompletableFuture<?> scenario(String name, long intendedStartNanos, CompletableFuture<?> steps) {
+        return steps.whenComplete((ignored, error) ->
+                recorder.record("scenario " + name, intendedStartNanos, error == null));
+    }
+
+    private CompletableFuture<?> browse(long productId, long intendedStartNanos) {
+        return client.products(20, intendedStartNanos)
+                .thenCompose(ignored -> client.product(productId, System.nanoTime()));
+    }
+
+    private CompletableFuture<?> addToCart(String token, long productId, int quantity, long intendedStartNanos) {
+        return client.addCartItem(token, productId, intendedStartNanos)
+                .thenCompose(cartId -> whenPresent(cartId,
+                        id -> client.updateQuantity(token, id, quantity, System.nanoTime())));
+    }
+
+    private CompletableFuture<?> checkout(String token, long productId, long intendedStartNanos) {
+        return client.addCartItem(token, productId, intendedStartNanos)
+                .thenCompose(cartId -> whenPresent(cartId,
+                        id -> client.order(token, id, 1, System.nanoTime())));
+    }
+
+    private <T> CompletableFuture<?> whenPresent(Optional<T> value,
+                                                 Function<T, CompletableFuture<?>> next) {
+        return value.<CompletableFuture<?>>map(next).orElseGet(() -> CompletableFuture.completedFuture(null));
+    }
+}
@@ -0,0 +1,111 @@
+package woowacourse.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public class ShopClient {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+
+    public ShopClient(int port, LatencyRecorder recorder) {
+        this.baseUrl = "http://localhost:" + port;
+        this.recorder = recorder;
+    }
+
+    public CompletableFuture<HttpResponse<String>> products(int size, long intendedStartNanos) {
+        return send("GET /api/products", get("/api/products?size=" + size).build(), intendedStartNanos);
+    }
+
+    public CompletableFuture<HttpResponse<String>> product(long productId, long intendedStartNanos) {
+        return send("GET /api/products/{id}", get("/api/products/" + productId).build(), intendedStartNanos);
+    }
+
+    public CompletableFuture<Optional<String>> login(String userName, String password, long intendedStartNanos) {
+        HttpRequest request = json("/api/login", "POST",
+                "{\"userName\":\"" + userName + "\",\"password\":\"" + password + "\"}").build();
+        return send("POST /api/login", request, intendedStartNanos)
+                .thenApply(response -> isSuccess(response)
+                        ? Optional.of(readTree(response).get("accessToken").asText())
+                        : Optional.empty());
+    }
+
+    public CompletableFuture<Optional<Long>> addCartItem(String token, long productId, long intendedStartNanos) {
+        HttpRequest request = json("/api/customers/me/carts", "POST", "{\"id\":" + productId + "}")
+                .header("Authorization", "Bearer " + token)
+                .build();
+        return send("POST /api/customers/me/carts", request, intendedStartNanos)
+                .thenApply(response -> response.headers().firstValue("Location")
+                        .filter(location -> isSuccess(response))
+                        .map(location -> Long.parseLong(location.substring(location.lastIndexOf('/') + 1))));
+    }
+
+    public CompletableFuture<HttpResponse<String>> updateQuantity(String token, long cartId, int quantity,
+                                                                  long intendedStartNanos) {
+        HttpRequest request = json("/api/customers/me/carts/" + cartId, "PATCH", "{\"quantity\":" + quantity + "}")
+                .header("Authorization", "Bearer " + token)
+                .build();
+        return send("PATCH /api/customers/me/carts/{cartId}", request, intendedStartNanos);
+    }
+
+    public CompletableFuture<HttpResponse<String>> order(String token, long cartId, int quantity,
+                                                         long intendedStartNanos) {
+        HttpRequest request = json("/api/customers/me/orders", "POST",
+                "[{\"cartId\":" + cartId + ",\"quantity\":" + quantity + "}]")
+                .header("Authorization", "Bearer " + token)
+                .build();
+        return send("POST /api/customers/me/orders", request, intendedStartNanos);
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(String endpoint, HttpRequest request,
+                                                         long intendedStartNanos) {
+        return httpClient.sendAsync(request, BodyHandlers.ofString())
+                .whenComplete((response, error) ->
+                        recorder.record(endpoint, intendedStartNanos, error == null && isSuccess(response)));
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .GET();
+    }
+
+    private HttpRequest.Builder json(String path, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(method, BodyPublishers.ofString(body));
+    }
+
+    private boolean isSuccess(HttpResponse<String> response) {
+        return response.statusCode() < 400;
+    }
+
+    private JsonNode readTree(HttpResponse<String> response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
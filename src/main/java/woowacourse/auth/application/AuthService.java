@@ -1,50 +1,114 @@
 package woowacourse.auth.application;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import woowacourse.auth.domain.LoginCustomer;
 import woowacourse.auth.dto.TokenRequest;
 import woowacourse.auth.support.JwtTokenProvider;
+import woowacourse.auth.support.RevokedCustomers;
+import woowacourse.auth.support.VerifiedTokenCache;
+import woowacourse.auth.support.VerifiedTokenCache.VerifiedToken;
 import woowacourse.shoppingcart.dao.CustomerDao;
 import woowacourse.shoppingcart.domain.Customer;
+import woowacourse.shoppingcart.exception.InvalidCustomerException;
+import woowacourse.shoppingcart.support.CustomerCache;
+import woowacourse.shoppingcart.support.HashingExecutor;
 
-import woowacourse.shoppingcart.support.Encryptor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 
 @Service
 @Transactional
 public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedCustomers revokedCustomers;
     private final CustomerDao customerDao;
+    private final CustomerCache customerCache;
+    private final HashingExecutor hashingExecutor;
+    private final Executor taskExecutor;
 
-    public AuthService(JwtTokenProvider jwtTokenProvider, CustomerDao customerDao) {
+    public AuthService(JwtTokenProvider jwtTokenProvider, VerifiedTokenCache verifiedTokenCache,
+                       RevokedCustomers revokedCustomers, CustomerDao customerDao, CustomerCache customerCache,
+                       HashingExecutor hashingExecutor,
+                       @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor taskExecutor) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revokedCustomers = revokedCustomers;
         this.customerDao = customerDao;
+        this.customerCache = customerCache;
+        this.hashingExecutor = hashingExecutor;
+        this.taskExecutor = taskExecutor;
     }
 
-    public String createToken(final TokenRequest tokenRequest) {
-        validateNameAndPassword(tokenRequest.getUserName(), tokenRequest.getPassword());
-        return jwtTokenProvider.createToken(tokenRequest.getUserName());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<String> createToken(final TokenRequest tokenRequest) {
+        final Customer customer = Customer.of(tokenRequest.getUserName(), tokenRequest.getPassword());
+        return hashingExecutor.submit(customer::getEncryptedPassword)
+                .thenApplyAsync(encryptedPassword -> findCustomerIdByNameAndPassword(customer.getName(), encryptedPassword),
+                        taskExecutor)
+                .thenApply(customerId -> jwtTokenProvider.createToken(customer.getName(), customerId));
     }
 
-    private void validateNameAndPassword(final String name, final String password) {
-        if (customerDao.existsCustomer(Customer.of(name, password))) {
-
-            return;
+    private Long findCustomerIdByNameAndPassword(final String name, final String encryptedPassword) {
+        try {
+            return customerDao.findIdByUserNameAndPassword(name, encryptedPassword);
+        } catch (InvalidCustomerException e) {
+            throw new AuthorizationException("로그인에 실패했습니다.");
         }
-        throw new AuthorizationException("로그인에 실패했습니다.");
     }
 
-    public void validateToken(String token) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public LoginCustomer authenticate(String token) {
         if (token == null) {
             throw new AuthorizationException("토큰이 없습니다.");
         }
 
-        if (jwtTokenProvider.isInvalidToken(token)) {
+        LoginCustomer loginCustomer = verifiedTokenCache.get(token, this::verify);
+        if (revokedCustomers.contains(loginCustomer.getId())) {
+            throw new InvalidCustomerException();
+        }
+        return loginCustomer;
+    }
+
+    private VerifiedToken verify(String token) {
+        Claims claims = parseClaims(token);
+        String userName = claims.getSubject();
+        Long customerId = customerCache.findIdByUserName(userName).orElseThrow(InvalidCustomerException::new);
+        Long claimedCustomerId = claims.get(JwtTokenProvider.CUSTOMER_ID_CLAIM, Long.class);
+        if (claimedCustomerId != null && !claimedCustomerId.equals(customerId)) {
+            throw new InvalidCustomerException();
+        }
+        return new VerifiedToken(new LoginCustomer(customerId, userName), claims.getExpiration());
+    }
+
+    private Claims parseClaims(String token) {
+        try {
+            return jwtTokenProvider.parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
             throw new AuthorizationException("인증되지 않은 사용자입니다.");
         }
     }
 
-    public String getPayload(String token) {
-        return jwtTokenProvider.getPayload(token);
+    public void revoke(Long customerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revokedCustomers.revoke(customerId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revokedCustomers.revoke(customerId);
+            }
+        });
     }
 }
@@ -1,15 +1,21 @@
 package woowacourse.auth.domain;
 
 public class LoginCustomer {
+    private Long id;
     private String userName;
 
     public LoginCustomer() {
     }
 
-    public LoginCustomer(String userName) {
+    public LoginCustomer(Long id, String userName) {
+        this.id = id;
         this.userName = userName;
     }
 
+    public Long getId() {
+        return id;
+    }
+
     public String getUserName() {
         return userName;
     }
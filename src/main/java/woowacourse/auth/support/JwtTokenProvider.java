@@ -8,13 +8,16 @@ import java.util.Date;
 
 @Component
 public class JwtTokenProvider {
+    public static final String CUSTOMER_ID_CLAIM = "customerId";
+
     @Value("${security.jwt.token.secret-key}")
     private String secretKey;
     @Value("${security.jwt.token.expire-length}")
     private long validityInMilliseconds;
 
-    public String createToken(String payload) {
+    public String createToken(String payload, Long customerId) {
         Claims claims = Jwts.claims().setSubject(payload);
+        claims.put(CUSTOMER_ID_CLAIM, customerId);
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
@@ -26,6 +29,10 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    public Claims parseClaims(String token) {
+        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+    }
+
     public String getPayload(String token) {
         return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
     }
@@ -0,0 +1,27 @@
+package woowacourse.auth.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RevokedCustomers {
+    private final Cache<Long, Boolean> customerIds;
+
+    public RevokedCustomers(@Value("${security.jwt.token.expire-length}") long validityInMilliseconds) {
+        this.customerIds = Caffeine.newBuilder()
+                .expireAfterWrite(validityInMilliseconds, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public void revoke(Long customerId) {
+        customerIds.put(customerId, Boolean.TRUE);
+    }
+
+    public boolean contains(Long customerId) {
+        return customerIds.getIfPresent(customerId) != null;
+    }
+}
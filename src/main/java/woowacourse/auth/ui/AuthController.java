@@ -10,6 +10,7 @@ import woowacourse.auth.dto.TokenRequest;
 import woowacourse.auth.dto.TokenResponse;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api")
@@ -22,8 +23,8 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<TokenResponse> login(@RequestBody @Valid final TokenRequest tokenRequest) {
-        final String token = authService.createToken(tokenRequest);
-        return ResponseEntity.ok(new TokenResponse(token));
+    public CompletableFuture<ResponseEntity<TokenResponse>> login(@RequestBody @Valid final TokenRequest tokenRequest) {
+        return authService.createToken(tokenRequest)
+                .thenApply(token -> ResponseEntity.ok(new TokenResponse(token)));
     }
 }
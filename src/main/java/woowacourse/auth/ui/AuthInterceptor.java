@@ -8,6 +8,7 @@ import woowacourse.auth.application.AuthService;
 import woowacourse.auth.support.AuthorizationExtractor;
 
 public class AuthInterceptor implements HandlerInterceptor {
+    public static final String LOGIN_CUSTOMER = AuthInterceptor.class.getSimpleName() + ".LOGIN_CUSTOMER";
 
     private final AuthService authService;
 
@@ -33,6 +34,6 @@ public class AuthInterceptor implements HandlerInterceptor {
 
     public void validateToken(HttpServletRequest request) {
         String token = AuthorizationExtractor.extract(request);
-        authService.validateToken(token);
+        request.setAttribute(LOGIN_CUSTOMER, authService.authenticate(token));
     }
 }
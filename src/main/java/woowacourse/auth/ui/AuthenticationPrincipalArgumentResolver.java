@@ -29,12 +29,17 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
                                          NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
 
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
+        Object authenticated = request.getAttribute(AuthInterceptor.LOGIN_CUSTOMER);
+        if (authenticated != null) {
+            return (LoginCustomer) authenticated;
+        }
+
         String token = AuthorizationExtractor.extract(request);
 
         if(token==null){
             return new LoginCustomer();
         }
 
-        return new LoginCustomer(authService.getPayload(token));
+        return authService.authenticate(token);
     }
 }
@@ -0,0 +1,225 @@
+package woowacourse.shoppingcart.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import woowacourse.shoppingcart.dao.OrderRequestDao;
+import woowacourse.shoppingcart.dao.OrderRequestDao.PendingRequest;
+import woowacourse.shoppingcart.dto.OrderRequest;
+import woowacourse.shoppingcart.dto.OrderStatusResponse;
+import woowacourse.shoppingcart.exception.InvalidCartItemException;
+import woowacourse.shoppingcart.exception.InvalidCustomerException;
+import woowacourse.shoppingcart.exception.InvalidOrderException;
+import woowacourse.shoppingcart.exception.InvalidProductException;
+import woowacourse.shoppingcart.exception.NotInCustomerCartItemException;
+import woowacourse.shoppingcart.exception.ServiceUnavailableException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Accepted order requests are stored as PENDING rows before they are queued, and the row turns COMPLETED in the
+ * transaction that places the order. Rows still pending at startup, left by a crash or a slow shutdown, are queued
+ * again; a request that was already placed fails on its deleted cart items and keeps its COMPLETED status.
+ */
+@Service
+public class AsyncOrderService implements InitializingBean, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(AsyncOrderService.class);
+    private static final long POLL_MILLIS = 100;
+    private static final String UNEXPECTED_FAILURE = "주문을 처리하지 못했습니다.";
+    private static final TypeReference<List<OrderRequest>> ORDER_REQUESTS = new TypeReference<>() {
+    };
+
+    private final OrderService orderService;
+    private final OrderRequestDao orderRequestDao;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<PendingOrder> queue;
+    private final int workerCount;
+    private final int batchSize;
+    private final Timer completedLag;
+    private final Timer failedLag;
+    private final DistributionSummary batchSizes;
+    private ExecutorService workers;
+    private volatile boolean running = true;
+
+    public AsyncOrderService(OrderService orderService, OrderRequestDao orderRequestDao, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${order.async.workers}") int workerCount,
+                             @Value("${order.async.queue-capacity}") int queueCapacity,
+                             @Value("${order.async.batch-size}") int batchSize) {
+        this.orderService = orderService;
+        this.orderRequestDao = orderRequestDao;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+
+        Gauge.builder("order.async.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        this.completedLag = lagTimer(meterRegistry, "completed");
+        this.failedLag = lagTimer(meterRegistry, "failed");
+        this.batchSizes = DistributionSummary.builder("order.async.batch.size").register(meterRegistry);
+    }
+
+    private Timer lagTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("order.async.lag")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        recover();
+        workers = Executors.newFixedThreadPool(workerCount, new OrderWorkerThreadFactory());
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::drain);
+        }
+    }
+
+    void recover() {
+        final List<PendingRequest> pendingRequests = orderRequestDao.findPending(queue.remainingCapacity());
+        for (PendingRequest pendingRequest : pendingRequests) {
+            queue.offer(new PendingOrder(pendingRequest.getRequestId(), pendingRequest.getCustomerId(),
+                    readOrderRequests(pendingRequest.getPayload()), System.nanoTime()));
+        }
+        if (!pendingRequests.isEmpty()) {
+            log.info("requeued {} pending order requests", pendingRequests.size());
+        }
+    }
+
+    public String accept(final Long customerId, final List<OrderRequest> orderRequests) {
+        if (!running || queue.remainingCapacity() == 0) {
+            throw new ServiceUnavailableException();
+        }
+        orderService.validateOrder(customerId, orderRequests);
+
+        final String requestId = UUID.randomUUID().toString();
+        orderRequestDao.save(requestId, customerId, writeOrderRequests(orderRequests));
+        if (!queue.offer(new PendingOrder(requestId, customerId, orderRequests, System.nanoTime()))) {
+            orderRequestDao.deleteById(requestId);
+            throw new ServiceUnavailableException();
+        }
+        return requestId;
+    }
+
+    public OrderStatusResponse findStatus(final Long customerId, final String requestId) {
+        return orderRequestDao.findStatus(customerId, requestId)
+                .orElseThrow(() -> new InvalidOrderException("존재하지 않는 주문 요청입니다."));
+    }
+
+    private String writeOrderRequests(final List<OrderRequest> orderRequests) {
+        try {
+            return objectMapper.writeValueAsString(orderRequests);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("주문 요청을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private List<OrderRequest> readOrderRequests(final String payload) {
+        try {
+            return objectMapper.readValue(payload, ORDER_REQUESTS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 요청을 역직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                persistNextBatch(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("order batch could not be recorded, requests stay pending until restart", e);
+            }
+        }
+    }
+
+    boolean persistNextBatch(final long timeoutMillis) throws InterruptedException {
+        final PendingOrder first = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return false;
+        }
+        final List<PendingOrder> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        persist(batch);
+        return true;
+    }
+
+    private void persist(final List<PendingOrder> batch) {
+        batchSizes.record(batch.size());
+        try {
+            orderService.addOrders(batch);
+            batch.forEach(this::complete);
+        } catch (RuntimeException e) {
+            log.debug("order batch of {} failed, retrying one by one", batch.size(), e);
+            batch.forEach(this::persistOne);
+        }
+    }
+
+    private void persistOne(final PendingOrder pendingOrder) {
+        try {
+            orderService.addOrder(pendingOrder);
+            complete(pendingOrder);
+        } catch (InvalidCustomerException | InvalidCartItemException | InvalidProductException
+                 | InvalidOrderException | NotInCustomerCartItemException e) {
+            fail(pendingOrder, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("order request {} failed", pendingOrder.getRequestId(), e);
+            fail(pendingOrder, UNEXPECTED_FAILURE);
+        }
+    }
+
+    private void fail(final PendingOrder pendingOrder, final String message) {
+        orderRequestDao.fail(pendingOrder.getRequestId(), message);
+        failedLag.record(System.nanoTime() - pendingOrder.getAcceptedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void complete(final PendingOrder pendingOrder) {
+        completedLag.record(System.nanoTime() - pendingOrder.getAcceptedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (workers == null) {
+            return;
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("{} accepted orders stay pending until the next start", queue.size());
+            workers.shutdownNow();
+        }
+    }
+
+    private static class OrderWorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "order-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
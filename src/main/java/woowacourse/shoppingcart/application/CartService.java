@@ -1,16 +1,23 @@
 package woowacourse.shoppingcart.application;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import woowacourse.shoppingcart.dao.CartItemDao;
-import woowacourse.shoppingcart.dao.CustomerDao;
-import woowacourse.shoppingcart.dao.ProductDao;
 import woowacourse.shoppingcart.domain.Cart;
-import woowacourse.shoppingcart.domain.Product;
+import woowacourse.shoppingcart.dto.CartQuantityRequest;
 import woowacourse.shoppingcart.exception.InvalidProductException;
 import woowacourse.shoppingcart.exception.NotInCustomerCartItemException;
+import woowacourse.shoppingcart.support.CartCache;
+import woowacourse.shoppingcart.support.CartQuantityBuffer;
+import woowacourse.shoppingcart.support.OutboxRecorder;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,62 +25,92 @@ import java.util.stream.Collectors;
 public class CartService {
 
     private final CartItemDao cartItemDao;
-    private final CustomerDao customerDao;
-    private final ProductDao productDao;
+    private final CartQuantityBuffer cartQuantityBuffer;
+    private final CartCache cartCache;
+    private final OutboxRecorder outboxRecorder;
 
-    public CartService(final CartItemDao cartItemDao, final CustomerDao customerDao, final ProductDao productDao) {
+    public CartService(final CartItemDao cartItemDao, final CartQuantityBuffer cartQuantityBuffer,
+                       final CartCache cartCache, final OutboxRecorder outboxRecorder) {
         this.cartItemDao = cartItemDao;
-        this.customerDao = customerDao;
-        this.productDao = productDao;
+        this.cartQuantityBuffer = cartQuantityBuffer;
+        this.cartCache = cartCache;
+        this.outboxRecorder = outboxRecorder;
     }
 
-    public List<Cart> findCarts(final String userName) {
-        final List<Long> cartIds = findCartIdsByCustomerName(userName);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<Cart> findCarts(final Long customerId) {
+        cartQuantityBuffer.flush(customerId);
+        return cartCache.findCarts(customerId);
+    }
 
-        return cartIds.stream()
-                .map(this::assembleCartWithId)
-                .collect(Collectors.toList());
+    public Long addCart(final Long customerId, final Long productId) {
+        cartCache.invalidate(customerId);
+        final Long cartId;
+        try {
+            cartId = cartItemDao.addCartItem(customerId, productId);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidProductException();
+        }
+        outboxRecorder.record(OutboxRecorder.CART, customerId, "CART_ITEM_ADDED",
+                Map.of("cartId", cartId, "productId", productId));
+        return cartId;
     }
 
-    private List<Long> findCartIdsByCustomerName(final String userName) {
-        final Long customerId = customerDao.findIdByUserName(userName);
-        return cartItemDao.findIdsByCustomerId(customerId);
+    public void deleteCart(final Long customerId, final Long cartId) {
+        cartCache.invalidate(customerId);
+        cartItemDao.deleteCartItem(customerId, cartId);
+        recordCartItemsRemoved(customerId, List.of(cartId));
     }
 
-    private Cart assembleCartWithId(Long cartId) {
-        final Long productId = cartItemDao.findProductIdById(cartId);
-        final int quantity = cartItemDao.findQuantityByCartId(cartId);
-        final Product product = productDao.findProductById(productId);
-        return new Cart(cartId, product, quantity);
+    public void deleteCarts(final Long customerId, final List<Long> cartIds) {
+        cartCache.invalidate(customerId);
+        final Set<Long> distinctCartIds = new HashSet<>(cartIds);
+        if (cartItemDao.deleteCartItems(customerId, distinctCartIds) != distinctCartIds.size()) {
+            throw new NotInCustomerCartItemException();
+        }
+        recordCartItemsRemoved(customerId, distinctCartIds);
     }
 
-    public Long addCart(final String userName, final Long productId) {
-        final Long customerId = customerDao.findIdByUserName(userName);
+    private void recordCartItemsRemoved(final Long customerId, final Collection<Long> cartIds) {
+        outboxRecorder.record(OutboxRecorder.CART, customerId, "CART_ITEMS_REMOVED", Map.of("cartIds", cartIds));
+    }
 
-        if(cartItemDao.existByCustomerIdAndProductId(customerId, productId)){
-            return cartItemDao.findIdByCustomerIdAndProductId(customerId, productId);
+    public void updateQuantity(final Long customerId, final Long cartId, final int quantity) {
+        cartCache.invalidate(customerId);
+        if (cartQuantityBuffer.offer(customerId, cartId, quantity)) {
+            return;
         }
+        cartItemDao.updateProductQuantity(customerId, cartId, quantity);
+        recordQuantitiesChanged(customerId, List.of(new CartQuantityRequest(cartId, quantity)));
+    }
 
-        try {
-            return cartItemDao.addCartItem(customerId, productId);
-        } catch (Exception e) {
-            throw new InvalidProductException();
-        }
+    public void updateQuantities(final Long customerId, final List<CartQuantityRequest> quantities) {
+        final Set<Long> cartIds = quantities.stream()
+                .map(CartQuantityRequest::getCartId)
+                .collect(Collectors.toSet());
+        validateCustomerCarts(customerId, cartIds);
+        cartCache.invalidate(customerId);
+        cartQuantityBuffer.flush(customerId);
+        cartItemDao.updateProductQuantities(customerId, quantities);
+        recordQuantitiesChanged(customerId, quantities);
     }
 
-    public void deleteCart(final String userName, final Long cartId) {
-        validateCustomerCart(cartId, userName);
-        cartItemDao.deleteCartItem(cartId);
+    private void recordQuantitiesChanged(final Long customerId, final List<CartQuantityRequest> quantities) {
+        outboxRecorder.record(OutboxRecorder.CART, customerId, OutboxRecorder.CART_QUANTITY_CHANGED,
+                Map.of("quantities", quantities));
     }
 
-    private void validateCustomerCart(final Long cartId, final String customerName) {
-        final List<Long> cartIds = findCartIdsByCustomerName(customerName);
-        if (!cartIds.contains(cartId)) {
+    private void validateCustomerCarts(final Long customerId, final Set<Long> cartIds) {
+        if (cartItemDao.countByCustomerIdAndIds(customerId, cartIds) != cartIds.size()) {
             throw new NotInCustomerCartItemException();
         }
     }
 
-    public void updateQuantity(Long cartId, int quantity) {
-        cartItemDao.updateProductQuantity(cartId, quantity);
+    public void increaseQuantity(final Long customerId, final Long cartId, final int delta) {
+        cartCache.invalidate(customerId);
+        cartQuantityBuffer.flush(customerId);
+        cartItemDao.increaseQuantity(customerId, cartId, delta);
+        outboxRecorder.record(OutboxRecorder.CART, customerId, "CART_QUANTITY_INCREASED",
+                Map.of("cartId", cartId, "delta", delta));
     }
 }
@@ -1,46 +1,87 @@
 package woowacourse.shoppingcart.application;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import woowacourse.auth.application.AuthService;
+import woowacourse.auth.domain.LoginCustomer;
 import woowacourse.shoppingcart.dao.CustomerDao;
 import woowacourse.shoppingcart.domain.Customer;
+import woowacourse.shoppingcart.domain.UserName;
 import woowacourse.shoppingcart.dto.CustomerRequest;
 import woowacourse.shoppingcart.dto.CustomerResponse;
 import woowacourse.shoppingcart.exception.DuplicateNameException;
+import woowacourse.shoppingcart.exception.InvalidCustomerException;
+import woowacourse.shoppingcart.support.CustomerCache;
+import woowacourse.shoppingcart.support.HashingExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 @Transactional
 public class CustomerService {
     private final CustomerDao customerDao;
+    private final CustomerCache customerCache;
+    private final AuthService authService;
+    private final HashingExecutor hashingExecutor;
+    private final Executor taskExecutor;
 
-    public CustomerService(final CustomerDao customerDao) {
+    public CustomerService(final CustomerDao customerDao, final CustomerCache customerCache,
+                           final AuthService authService, final HashingExecutor hashingExecutor,
+                           @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                           final Executor taskExecutor) {
         this.customerDao = customerDao;
+        this.customerCache = customerCache;
+        this.authService = authService;
+        this.hashingExecutor = hashingExecutor;
+        this.taskExecutor = taskExecutor;
     }
 
-    public void addCustomer(final CustomerRequest customerRequest) {
-        if (customerDao.existsByName(customerRequest.getUserName())) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> addCustomer(final CustomerRequest customerRequest) {
+        final Customer customer = Customer.of(customerRequest.getUserName(), customerRequest.getPassword());
+        if (customerDao.existsByName(customer.getName())) {
             throw new DuplicateNameException();
         }
 
-        customerDao.save(Customer.of(customerRequest.getUserName(), customerRequest.getPassword()));
+        return hashingExecutor.submit(customer::getEncryptedPassword)
+                .thenAcceptAsync(encryptedPassword -> saveCustomer(customer.getName(), encryptedPassword), taskExecutor);
+    }
+
+    private void saveCustomer(final String userName, final String encryptedPassword) {
+        try {
+            customerDao.save(userName, encryptedPassword);
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateNameException();
+        }
+        customerCache.invalidate(userName);
     }
 
-    public void deleteCustomer(final String userName) {
-        customerDao.deleteByName(userName);
+    public void deleteCustomer(final LoginCustomer loginCustomer) {
+        customerDao.deleteByName(loginCustomer.getUserName());
+        customerCache.invalidate(loginCustomer.getUserName());
+        authService.revoke(loginCustomer.getId());
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public CustomerResponse findCustomer(final String userName) {
-        final Customer customer = customerDao.findCustomerByName(userName);
-        return new CustomerResponse(customer.getName());
+        if (customerCache.findIdByUserName(userName).isEmpty()) {
+            throw new InvalidCustomerException();
+        }
+        return new CustomerResponse(UserName.normalize(userName));
     }
 
     public void editCustomer(final String userName, final CustomerRequest editRequest) {
         customerDao.updateCustomer(Customer.of(userName, editRequest.getPassword()));
+        customerCache.invalidate(userName);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean existsCustomer(String userName) {
-        return customerDao.existsByName(userName);
+        return customerCache.findIdByUserName(userName).isPresent();
     }
 }
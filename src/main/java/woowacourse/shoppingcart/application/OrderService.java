@@ -5,12 +5,21 @@ import org.springframework.transaction.annotation.Transactional;
 import woowacourse.shoppingcart.dao.*;
 import woowacourse.shoppingcart.domain.OrderDetail;
 import woowacourse.shoppingcart.domain.Orders;
+import woowacourse.shoppingcart.domain.OutboxEvent;
 import woowacourse.shoppingcart.domain.Product;
-import woowacourse.shoppingcart.dto.OrderQuantityInfo;
 import woowacourse.shoppingcart.dto.OrderRequest;
 import woowacourse.shoppingcart.exception.InvalidOrderException;
-
+import woowacourse.shoppingcart.exception.NotInCustomerCartItemException;
+import woowacourse.shoppingcart.support.CartCache;
+import woowacourse.shoppingcart.support.CartQuantityBuffer;
+import woowacourse.shoppingcart.support.OutboxRecorder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,69 +29,125 @@ public class OrderService {
     private final OrdersDao orderDao;
     private final OrderDetailDao orderDetailDao;
     private final CartItemDao cartItemDao;
-    private final CustomerDao customerDao;
-    private final ProductDao productDao;
-
-    public OrderService(final OrdersDao orderDao, final OrderDetailDao ordersDetailDao,
-                        final CartItemDao cartItemDao, final CustomerDao customerDao, final ProductDao productDao) {
+    private final CartQuantityBuffer cartQuantityBuffer;
+    private final CartCache cartCache;
+    private final OutboxRecorder outboxRecorder;
+    private final OrderRequestDao orderRequestDao;
+
+    public OrderService(final OrdersDao orderDao, final OrderDetailDao ordersDetailDao, final CartItemDao cartItemDao,
+                        final CartQuantityBuffer cartQuantityBuffer, final CartCache cartCache,
+                        final OutboxRecorder outboxRecorder, final OrderRequestDao orderRequestDao) {
         this.orderDao = orderDao;
         this.orderDetailDao = ordersDetailDao;
         this.cartItemDao = cartItemDao;
-        this.customerDao = customerDao;
-        this.productDao = productDao;
+        this.cartQuantityBuffer = cartQuantityBuffer;
+        this.cartCache = cartCache;
+        this.outboxRecorder = outboxRecorder;
+        this.orderRequestDao = orderRequestDao;
     }
 
-    public Long addOrder(final String userName, final List<OrderRequest> orderDetailRequests) {
-        final Long customerId = customerDao.findIdByUserName(userName);
-        final Long ordersId = orderDao.addOrders(customerId);
+    public Long addOrder(final Long customerId, final List<OrderRequest> orderDetailRequests) {
+        cartQuantityBuffer.flush(customerId);
+        cartCache.invalidate(customerId);
 
-        for (final OrderRequest orderDetail : orderDetailRequests) {
-            final Long cartId = orderDetail.getCartId();
-            final Long productId = cartItemDao.findProductIdById(cartId);
-            final int quantity = orderDetail.getQuantity();
+        final List<Long> cartIds = toCartIds(orderDetailRequests);
+        final Map<Long, Product> productsByCartId = cartItemDao.findProductsByIds(cartIds);
 
-            orderDetailDao.addOrdersDetail(ordersId, productId, quantity);
-            cartItemDao.deleteCartItem(cartId);
-        }
+        final List<OrderDetail> orderDetails = toOrderDetails(orderDetailRequests, productsByCartId);
+        final Long ordersId = orderDao.addOrders(customerId, Orders.totalPriceOf(orderDetails));
+        orderDetailDao.addOrdersDetails(ordersId, orderDetails);
+        cartItemDao.deleteCartItems(cartIds);
+        outboxRecorder.recordAll(List.of(orderPlaced(customerId, ordersId, orderDetails)));
 
         return ordersId;
     }
 
-    @Transactional(readOnly = true)
-    public Orders findOrderById(final String userName, final Long orderId) {
-        validateOrderIdByCustomerName(userName, orderId);
-        return findOrderById(orderId);
+    public Long addOrder(final PendingOrder pendingOrder) {
+        final Long ordersId = addOrder(pendingOrder.getCustomerId(), pendingOrder.getOrderRequests());
+        completeRequests(List.of(pendingOrder), List.of(ordersId));
+        return ordersId;
     }
 
-    private void validateOrderIdByCustomerName(final String userName, final Long orderId) {
-        final Long customerId = customerDao.findIdByUserName(userName);
+    public List<Long> addOrders(final List<PendingOrder> pendingOrders) {
+        final List<Long> cartIds = new ArrayList<>();
+        for (PendingOrder pendingOrder : pendingOrders) {
+            cartQuantityBuffer.flush(pendingOrder.getCustomerId());
+            cartCache.invalidate(pendingOrder.getCustomerId());
+            cartIds.addAll(toCartIds(pendingOrder.getOrderRequests()));
+        }
+        final Map<Long, Product> productsByCartId = cartItemDao.findProductsByIds(cartIds);
+
+        final List<Long> ordersIds = new ArrayList<>();
+        final Map<Long, List<OrderDetail>> orderDetailsByOrdersId = new LinkedHashMap<>();
+        final List<OutboxEvent> events = new ArrayList<>();
+        for (PendingOrder pendingOrder : pendingOrders) {
+            final List<OrderDetail> orderDetails = toOrderDetails(pendingOrder.getOrderRequests(), productsByCartId);
+            final Long ordersId = orderDao.addOrders(pendingOrder.getCustomerId(), Orders.totalPriceOf(orderDetails));
+            ordersIds.add(ordersId);
+            orderDetailsByOrdersId.put(ordersId, orderDetails);
+            events.add(orderPlaced(pendingOrder.getCustomerId(), ordersId, orderDetails));
+        }
+        orderDetailDao.addOrdersDetails(orderDetailsByOrdersId);
+        cartItemDao.deleteCartItems(cartIds);
+        outboxRecorder.recordAll(events);
+        completeRequests(pendingOrders, ordersIds);
+
+        return ordersIds;
+    }
 
-        if (!orderDao.isValidOrderId(customerId, orderId)) {
-            throw new InvalidOrderException("유저에게는 해당 order_id가 없습니다.");
+    private void completeRequests(final List<PendingOrder> pendingOrders, final List<Long> ordersIds) {
+        final Map<String, Long> ordersIdsByRequestId = new LinkedHashMap<>();
+        for (int i = 0; i < pendingOrders.size(); i++) {
+            ordersIdsByRequestId.put(pendingOrders.get(i).getRequestId(), ordersIds.get(i));
+        }
+        if (orderRequestDao.complete(ordersIdsByRequestId) != pendingOrders.size()) {
+            throw new InvalidOrderException("이미 처리된 주문 요청입니다.");
         }
     }
 
     @Transactional(readOnly = true)
-    public List<Orders> findOrders(final String userName) {
-        final Long customerId = customerDao.findIdByUserName(userName);
-        final List<Long> orderIds = orderDao.findOrderIdsByCustomerId(customerId);
+    public void validateOrder(final Long customerId, final List<OrderRequest> orderDetailRequests) {
+        final Set<Long> cartIds = new HashSet<>(toCartIds(orderDetailRequests));
+        if (cartIds.size() != orderDetailRequests.size()
+                || cartItemDao.countByCustomerIdAndIds(customerId, cartIds) != cartIds.size()) {
+            throw new NotInCustomerCartItemException();
+        }
+    }
+
+    private OutboxEvent orderPlaced(final Long customerId, final Long ordersId, final List<OrderDetail> orderDetails) {
+        return outboxRecorder.event(OutboxRecorder.ORDER, ordersId, "ORDER_PLACED",
+                Map.of("customerId", customerId, "totalPrice", Orders.totalPriceOf(orderDetails),
+                        "items", orderDetails));
+    }
 
-        return orderIds.stream()
-                .map(this::findOrderById)
+    private List<Long> toCartIds(final List<OrderRequest> orderDetailRequests) {
+        return orderDetailRequests.stream()
+                .map(OrderRequest::getCartId)
                 .collect(Collectors.toList());
     }
 
-    private Orders findOrderById(final Long orderId) {
-        List<OrderDetail> orderDetails = orderDetailDao.findOrderQuantityInfoByOrderId(orderId)
-                .stream()
-                .map(this::assembleOrderDetail)
+    private List<OrderDetail> toOrderDetails(final List<OrderRequest> orderDetailRequests,
+                                             final Map<Long, Product> productsByCartId) {
+        return orderDetailRequests.stream()
+                .map(orderDetail -> new OrderDetail(
+                        productsByCartId.get(orderDetail.getCartId()), orderDetail.getQuantity()))
                 .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public Orders findOrderById(final Long customerId, final Long orderId) {
+        validateOrderIdByCustomerId(customerId, orderId);
+        return orderDao.findOrderById(orderId);
+    }
 
-        return new Orders(orderId, orderDetails);
+    private void validateOrderIdByCustomerId(final Long customerId, final Long orderId) {
+        if (!orderDao.isValidOrderId(customerId, orderId)) {
+            throw new InvalidOrderException("유저에게는 해당 order_id가 없습니다.");
+        }
     }
 
-    private OrderDetail assembleOrderDetail(OrderQuantityInfo info){
-        Product product = productDao.findProductById(info.getProductId());
-        return new OrderDetail(product, info.getQuantity());
+    @Transactional(readOnly = true)
+    public List<Orders> findOrders(final Long customerId) {
+        return orderDao.findOrdersByCustomerId(customerId);
     }
 }
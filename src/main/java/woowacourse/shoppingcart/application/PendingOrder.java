@@ -0,0 +1,36 @@
+package woowacourse.shoppingcart.application;
+
+import woowacourse.shoppingcart.dto.OrderRequest;
+
+import java.util.List;
+
+public class PendingOrder {
+    private final String requestId;
+    private final Long customerId;
+    private final List<OrderRequest> orderRequests;
+    private final long acceptedNanos;
+
+    public PendingOrder(final String requestId, final Long customerId, final List<OrderRequest> orderRequests,
+                        final long acceptedNanos) {
+        this.requestId = requestId;
+        this.customerId = customerId;
+        this.orderRequests = List.copyOf(orderRequests);
+        this.acceptedNanos = acceptedNanos;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public List<OrderRequest> getOrderRequests() {
+        return orderRequests;
+    }
+
+    public long getAcceptedNanos() {
+        return acceptedNanos;
+    }
+}
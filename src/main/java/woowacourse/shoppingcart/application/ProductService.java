@@ -3,11 +3,12 @@ package woowacourse.shoppingcart.application;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import woowacourse.auth.domain.LoginCustomer;
-import woowacourse.shoppingcart.dao.CartItemDao;
-import woowacourse.shoppingcart.dao.CustomerDao;
 import woowacourse.shoppingcart.dao.ProductDao;
 import woowacourse.shoppingcart.domain.Product;
+import woowacourse.shoppingcart.dto.ProductPage;
 import woowacourse.shoppingcart.dto.ProductResponse;
+import woowacourse.shoppingcart.support.CartCache;
+import woowacourse.shoppingcart.support.CatalogVersion;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,60 +17,52 @@ import java.util.stream.Collectors;
 @Transactional
 public class ProductService {
     private final ProductDao productDao;
-    private final CartItemDao cartItemDao;
-    private final CustomerDao customerDao;
+    private final CatalogVersion catalogVersion;
+    private final CartCache cartCache;
 
-    public ProductService(final ProductDao productDao, final CartItemDao cartItemDao, final CustomerDao customerDao) {
+    public ProductService(final ProductDao productDao, final CatalogVersion catalogVersion, final CartCache cartCache) {
         this.productDao = productDao;
-        this.cartItemDao = cartItemDao;
-        this.customerDao = customerDao;
+        this.catalogVersion = catalogVersion;
+        this.cartCache = cartCache;
+    }
+
+    public long getCatalogVersion() {
+        return catalogVersion.current();
     }
 
     @Transactional(readOnly = true)
-    public List<ProductResponse> findProducts(final LoginCustomer loginCustomer) {
-        List<Product> products = productDao.findProducts();
+    public ProductPage findProducts(final LoginCustomer loginCustomer, final Long after, final int size) {
+        return ProductPage.of(findProductsAfter(loginCustomer, after, size + 1), size);
+    }
 
+    private List<ProductResponse> findProductsAfter(final LoginCustomer loginCustomer, final Long after, final int limit) {
         if(loginCustomer.isUnauthorized()){
-            return products.stream()
+            return productDao.findProductsAfter(after, limit).stream()
                     .map(ProductResponse::of)
                     .collect(Collectors.toList());
         }
 
-        Long userId = customerDao.findIdByUserName(loginCustomer.getUserName());
-
-        return products.stream()
-                .map(Product::getId)
-                .map(productId -> assembleProductResponse(userId, productId))
-                .collect(Collectors.toList());
+        return productDao.findProductsWithCartAfter(loginCustomer.getId(), after, limit);
     }
 
     public Long addProduct(final Product product) {
-        return productDao.save(product);
+        final Long productId = productDao.save(product);
+        catalogVersion.increase();
+        return productId;
     }
 
     @Transactional(readOnly = true)
     public ProductResponse findProductById(final LoginCustomer loginCustomer, final Long productId) {
-        Product product = productDao.findProductById(productId);
         if(loginCustomer.isUnauthorized()){
-            return ProductResponse.of(product);
-        }
-
-        Long userId = customerDao.findIdByUserName(loginCustomer.getUserName());
-        return assembleProductResponse(userId, productId);
-    }
-
-    private ProductResponse assembleProductResponse(Long userId, Long productId) {
-        Product product = productDao.findProductById(productId);
-        if(!cartItemDao.existByCustomerIdAndProductId(userId, productId)){
-            return ProductResponse.of(product);
+            return ProductResponse.of(productDao.findProductById(productId));
         }
 
-        Long cartId = cartItemDao.findIdByCustomerIdAndProductId(userId, productId);
-        int cartQuantity = cartItemDao.findQuantityById(userId);
-        return ProductResponse.of(product, cartId, cartQuantity);
+        return productDao.findProductWithCartById(loginCustomer.getId(), productId);
     }
 
     public void deleteProductById(final Long productId) {
         productDao.delete(productId);
+        catalogVersion.increase();
+        cartCache.invalidateByProduct(productId);
     }
 }
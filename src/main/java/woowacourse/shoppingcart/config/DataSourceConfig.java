@@ -0,0 +1,27 @@
+package woowacourse.shoppingcart.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import woowacourse.shoppingcart.support.InstrumentedDataSourcePostProcessor;
+import woowacourse.shoppingcart.support.SlowQueryLog;
+
+import java.time.Duration;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public static SlowQueryLog slowQueryLog(Environment environment) {
+        return new SlowQueryLog(
+                environment.getRequiredProperty("slow-query.enabled", Boolean.class),
+                environment.getRequiredProperty("slow-query.threshold", Duration.class),
+                environment.getRequiredProperty("slow-query.explain", Boolean.class),
+                environment.getRequiredProperty("slow-query.queue-capacity", Integer.class));
+    }
+
+    @Bean
+    public static InstrumentedDataSourcePostProcessor instrumentedDataSourcePostProcessor(SlowQueryLog slowQueryLog) {
+        return new InstrumentedDataSourcePostProcessor(slowQueryLog);
+    }
+}
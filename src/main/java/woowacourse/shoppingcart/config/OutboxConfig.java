@@ -0,0 +1,39 @@
+package woowacourse.shoppingcart.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import woowacourse.shoppingcart.dao.OutboxDao;
+import woowacourse.shoppingcart.support.FileOutboxSink;
+import woowacourse.shoppingcart.support.InMemoryOutboxSink;
+import woowacourse.shoppingcart.support.OutboxRelay;
+import woowacourse.shoppingcart.support.OutboxSink;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.sink", havingValue = "memory")
+    public InMemoryOutboxSink inMemoryOutboxSink() {
+        return new InMemoryOutboxSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.sink", havingValue = "file", matchIfMissing = true)
+    public FileOutboxSink fileOutboxSink(Environment environment, ObjectMapper objectMapper) {
+        return new FileOutboxSink(Path.of(environment.getRequiredProperty("outbox.file.path")), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true")
+    public OutboxRelay outboxRelay(OutboxDao outboxDao, OutboxSink outboxSink, Environment environment) {
+        return new OutboxRelay(outboxDao, outboxSink,
+                environment.getRequiredProperty("outbox.relay.batch-size", Integer.class),
+                environment.getRequiredProperty("outbox.relay.poll-interval", Duration.class));
+    }
+}
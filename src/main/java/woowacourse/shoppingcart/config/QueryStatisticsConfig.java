@@ -0,0 +1,16 @@
+package woowacourse.shoppingcart.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import woowacourse.shoppingcart.support.QueryStatisticsFilter;
+
+@Configuration
+@Profile("!prod")
+public class QueryStatisticsConfig {
+
+    @Bean
+    public QueryStatisticsFilter queryStatisticsFilter() {
+        return new QueryStatisticsFilter();
+    }
+}
@@ -1,63 +1,128 @@
 package woowacourse.shoppingcart.dao;
 
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import woowacourse.shoppingcart.domain.Cart;
+import woowacourse.shoppingcart.domain.Product;
+import woowacourse.shoppingcart.dto.CartQuantityRequest;
 import woowacourse.shoppingcart.exception.InvalidCartItemException;
+import woowacourse.shoppingcart.exception.NotInCustomerCartItemException;
 
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Repository
 public class CartItemDao {
     private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     public CartItemDao(final JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
     }
 
-    public List<Long> findProductIdsByCustomerId(final Long customerId) {
-        final String sql = "SELECT product_id FROM cart_item WHERE customer_id = ?";
-
-        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong("product_id"), customerId);
+    public List<Cart> findCartsByCustomerId(final Long customerId) {
+        final String sql = "SELECT c.id, c.product_id, c.quantity, p.name, p.price, p.image_url "
+                + "FROM cart_item c JOIN product p ON c.product_id = p.id "
+                + "WHERE c.customer_id = ? ORDER BY c.id";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new Cart(
+                rs.getLong("id"),
+                rs.getLong("product_id"),
+                rs.getString("name"),
+                rs.getInt("price"),
+                rs.getInt("quantity"),
+                rs.getString("image_url")
+        ), customerId);
     }
 
-    public List<Long> findIdsByCustomerId(final Long customerId) {
-        final String sql = "SELECT id FROM cart_item WHERE customer_id = ?";
-
-        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong("id"), customerId);
-    }
+    public Map<Long, Product> findProductsByIds(final List<Long> cartIds) {
+        final Map<Long, Product> productsByCartId = new HashMap<>();
+        if (cartIds.isEmpty()) {
+            return productsByCartId;
+        }
 
-    public Long findProductIdById(final Long cartId) {
-        try {
-            final String sql = "SELECT product_id FROM cart_item WHERE id = ?";
-            return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> rs.getLong("product_id"), cartId);
-        } catch (EmptyResultDataAccessException e) {
+        final String sql = "SELECT c.id, p.id AS product_id, p.name, p.price, p.image_url "
+                + "FROM cart_item c JOIN product p ON p.id = c.product_id WHERE c.id IN (:ids)";
+        final RowCallbackHandler collectProducts = rs -> productsByCartId.put(rs.getLong("id"), new Product(
+                rs.getLong("product_id"),
+                rs.getString("name"),
+                rs.getInt("price"),
+                rs.getString("image_url")
+        ));
+        namedParameterJdbcTemplate.query(sql, Map.of("ids", cartIds), collectProducts);
+
+        if (productsByCartId.size() != cartIds.size()) {
             throw new InvalidCartItemException();
         }
+        return productsByCartId;
     }
 
     public Long addCartItem(final Long customerId, final Long productId) {
         final String sql = "INSERT INTO cart_item(customer_id, product_id) VALUES(?, ?)";
         final KeyHolder keyHolder = new GeneratedKeyHolder();
 
-        jdbcTemplate.update(con -> {
-            PreparedStatement preparedStatement = con.prepareStatement(sql, new String[]{"id"});
-            preparedStatement.setLong(1, customerId);
-            preparedStatement.setLong(2, productId);
-            return preparedStatement;
-        }, keyHolder);
+        try {
+            jdbcTemplate.update(con -> {
+                PreparedStatement preparedStatement = con.prepareStatement(sql, new String[]{"id"});
+                preparedStatement.setLong(1, customerId);
+                preparedStatement.setLong(2, productId);
+                return preparedStatement;
+            }, keyHolder);
+        } catch (final DuplicateKeyException e) {
+            return findIdByCustomerIdAndProductId(customerId, productId);
+        }
         return Objects.requireNonNull(keyHolder.getKey()).longValue();
     }
 
-    public void deleteCartItem(final Long id) {
-        final String sql = "DELETE FROM cart_item WHERE id = ?";
+    public void deleteCartItem(final Long customerId, final Long id) {
+        final String sql = "DELETE FROM cart_item WHERE id = ? AND customer_id = ?";
 
-        final int rowCount = jdbcTemplate.update(sql, id);
+        final int rowCount = jdbcTemplate.update(sql, id, customerId);
         if (rowCount == 0) {
+            throw new NotInCustomerCartItemException();
+        }
+    }
+
+    public int deleteCartItems(final Long customerId, final Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        final String sql = "DELETE FROM cart_item WHERE customer_id = :customerId AND id IN (:ids)";
+        return namedParameterJdbcTemplate.update(sql, Map.of("customerId", customerId, "ids", ids));
+    }
+
+    public int countByCustomerIdAndIds(final Long customerId, final Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        final String sql = "SELECT COUNT(*) FROM cart_item WHERE customer_id = :customerId AND id IN (:ids)";
+        final Integer count = namedParameterJdbcTemplate.queryForObject(
+                sql, Map.of("customerId", customerId, "ids", ids), Integer.class);
+        return Objects.requireNonNull(count);
+    }
+
+    public void deleteCartItems(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        final String sql = "DELETE FROM cart_item WHERE id IN (:ids)";
+
+        final int rowCount = namedParameterJdbcTemplate.update(sql, Map.of("ids", ids));
+        if (rowCount != ids.size()) {
             throw new InvalidCartItemException();
         }
     }
@@ -72,18 +137,48 @@ public class CartItemDao {
         return jdbcTemplate.queryForObject(query, (rs, rowNum) -> rs.getLong("id"), customerId, productId);
     }
 
-    public int findQuantityById(Long customerId) {
-        final String query = "SELECT quantity FROM cart_item WHERE customer_id = ?";
-        return jdbcTemplate.queryForObject(query, (rs, rowNum) -> rs.getInt("quantity"), customerId);
+    public void increaseQuantity(final Long customerId, final Long cartId, final int delta) {
+        final String query = "UPDATE cart_item SET quantity = quantity + ? "
+                + "WHERE id = ? AND customer_id = ? AND quantity + ? > 0";
+
+        final int rowCount = jdbcTemplate.update(query, delta, cartId, customerId, delta);
+        if (rowCount == 0) {
+            throw new InvalidCartItemException();
+        }
     }
 
-    public int findQuantityByCartId(Long cartId) {
-        final String query = "SELECT quantity FROM cart_item WHERE id = ?";
-        return jdbcTemplate.queryForObject(query, (rs, rowNum) -> rs.getInt("quantity"), cartId);
+    public void updateProductQuantity(final Long customerId, final Long cartId, final int quantity) {
+        final String query = "UPDATE cart_item SET quantity = ? WHERE id = ? AND customer_id = ?";
+
+        final int rowCount = jdbcTemplate.update(query, quantity, cartId, customerId);
+        if (rowCount == 0) {
+            throw new NotInCustomerCartItemException();
+        }
     }
 
-    public void updateProductQuantity(Long cartId, int quantity) {
-        final String query = "UPDATE cart_item SET quantity = ? WHERE id = ?";
-        jdbcTemplate.update(query, quantity, cartId);
+    public void updateProductQuantities(final Long customerId, final List<CartQuantityRequest> quantities) {
+        updateProductQuantities(Map.of(customerId, quantities));
+    }
+
+    public Map<Long, List<CartQuantityRequest>> updateProductQuantities(
+            final Map<Long, List<CartQuantityRequest>> quantitiesByCustomerId) {
+        final String query = "UPDATE cart_item SET quantity = ? WHERE id = ? AND customer_id = ?";
+        final List<Long> customerIds = new ArrayList<>();
+        final List<CartQuantityRequest> requests = new ArrayList<>();
+        final List<Object[]> batchArgs = new ArrayList<>();
+        quantitiesByCustomerId.forEach((customerId, quantities) -> quantities.forEach(quantity -> {
+            customerIds.add(customerId);
+            requests.add(quantity);
+            batchArgs.add(new Object[]{quantity.getQuantity(), quantity.getCartId(), customerId});
+        }));
+
+        final int[] rowCounts = jdbcTemplate.batchUpdate(query, batchArgs);
+        final Map<Long, List<CartQuantityRequest>> updated = new HashMap<>();
+        for (int i = 0; i < rowCounts.length; i++) {
+            if (rowCounts[i] != 0) {
+                updated.computeIfAbsent(customerIds.get(i), id -> new ArrayList<>()).add(requests.get(i));
+            }
+        }
+        return updated;
     }
 }
@@ -5,11 +5,10 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 import woowacourse.shoppingcart.domain.Customer;
+import woowacourse.shoppingcart.domain.UserName;
 import woowacourse.shoppingcart.exception.InvalidCustomerException;
-import woowacourse.shoppingcart.exception.InvalidProductException;
 
 import java.sql.PreparedStatement;
-import java.util.Locale;
 
 @Repository
 public class CustomerDao {
@@ -20,14 +19,14 @@ public class CustomerDao {
         this.jdbcTemplate = jdbcTemplate;
     }
 
-    public void save(Customer customer) {
+    public void save(String userName, String encryptedPassword) {
         final String query = "INSERT INTO customer (username, password) VALUES (?, ?)";
         final GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
         jdbcTemplate.update(connection -> {
             final PreparedStatement preparedStatement =
                     connection.prepareStatement(query, new String[]{"id"});
-            preparedStatement.setString(1, customer.getName());
-            preparedStatement.setString(2, customer.getEncryptedPassword());
+            preparedStatement.setString(1, UserName.normalize(userName));
+            preparedStatement.setString(2, encryptedPassword);
             return preparedStatement;
         }, keyHolder);
     }
@@ -35,7 +34,7 @@ public class CustomerDao {
     public Long findIdByUserName(final String userName) {
         try {
             final String query = "SELECT id FROM customer WHERE username = ?";
-            return jdbcTemplate.queryForObject(query, Long.class, userName.toLowerCase(Locale.ROOT));
+            return jdbcTemplate.queryForObject(query, Long.class, UserName.normalize(userName));
         } catch (final EmptyResultDataAccessException e) {
             throw new InvalidCustomerException();
         }
@@ -43,36 +42,41 @@ public class CustomerDao {
 
     public void deleteByName(String userName) {
         final String query = "DELETE FROM customer WHERE username = ?";
-        jdbcTemplate.update(query, userName);
+        jdbcTemplate.update(query, UserName.normalize(userName));
     }
 
     public Customer findCustomerByName(String userName) {
         try {
-            final String query = "SELECT id, password FROM customer WHERE username = ?";
+            final String query = "SELECT id, username, password FROM customer WHERE username = ?";
             return jdbcTemplate.queryForObject(query, (resultSet, rowNumber) ->
                     Customer.of(
                             resultSet.getLong("id"),
-                            userName,
+                            resultSet.getString("username"),
                             resultSet.getString("password")
-                    ), userName
+                    ), UserName.normalize(userName)
             );
         } catch (EmptyResultDataAccessException e) {
-            throw new InvalidProductException();
+            throw new InvalidCustomerException();
         }
     }
 
     public void updateCustomer(Customer customer) {
         final String query = "UPDATE customer SET password = ? WHERE username = ?";
-        jdbcTemplate.update(query, customer.getEncryptedPassword(), customer.getName());
+        jdbcTemplate.update(query, customer.getEncryptedPassword(), UserName.normalize(customer.getName()));
     }
 
     public boolean existsByName(String name) {
         final String query = "SELECT EXISTS (SELECT id FROM customer where username = ?)";
-        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(query, Boolean.class, name));
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(query, Boolean.class, UserName.normalize(name)));
     }
 
-    public boolean existsCustomer(Customer customer) {
-        final String query = "SELECT EXISTS (SELECT id FROM customer where username = ? and password = ?)";
-        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(query, Boolean.class, customer.getName(), customer.getEncryptedPassword()));
+    public Long findIdByUserNameAndPassword(String userName, String encryptedPassword) {
+        try {
+            final String query = "SELECT id FROM customer WHERE username = ? and password = ?";
+            return jdbcTemplate.queryForObject(query, Long.class,
+                    UserName.normalize(userName), encryptedPassword);
+        } catch (final EmptyResultDataAccessException e) {
+            throw new InvalidCustomerException();
+        }
     }
 }
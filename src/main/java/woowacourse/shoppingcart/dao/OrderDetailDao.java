@@ -1,41 +1,35 @@
 package woowacourse.shoppingcart.dao;
 
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
-import woowacourse.shoppingcart.dto.OrderQuantityInfo;
+import woowacourse.shoppingcart.domain.OrderDetail;
 
-import java.sql.PreparedStatement;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Repository
 public class OrderDetailDao {
+    private static final String INSERT_SQL = "INSERT INTO orders_detail "
+            + "(orders_id, product_id, quantity, name, price, image_url) VALUES (?, ?, ?, ?, ?, ?)";
+
     private final JdbcTemplate jdbcTemplate;
 
     public OrderDetailDao(final JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
-    public Long addOrdersDetail(final Long ordersId, final Long productId, final int quantity) {
-        final String sql = "INSERT INTO orders_detail (orders_id, product_id, quantity) VALUES (?, ?, ?)";
-        final KeyHolder keyHolder = new GeneratedKeyHolder();
-
-        jdbcTemplate.update(con -> {
-            PreparedStatement preparedStatement = con.prepareStatement(sql, new String[]{"id"});
-            preparedStatement.setLong(1, ordersId);
-            preparedStatement.setLong(2, productId);
-            preparedStatement.setLong(3, quantity);
-            return preparedStatement;
-        }, keyHolder);
-        return keyHolder.getKey().longValue();
+    public void addOrdersDetails(final Long ordersId, final List<OrderDetail> orderDetails) {
+        addOrdersDetails(Map.of(ordersId, orderDetails));
     }
 
-    public List<OrderQuantityInfo> findOrderQuantityInfoByOrderId(final Long orderId) {
-        final String sql = "SELECT product_id, quantity FROM orders_detail WHERE orders_id = ?";
-        return jdbcTemplate.query(sql, (rs, rowNum) -> new OrderQuantityInfo(
-                rs.getLong("product_id"),
-                rs.getInt("quantity")
-        ), orderId);
+    public void addOrdersDetails(final Map<Long, List<OrderDetail>> orderDetailsByOrdersId) {
+        final List<Object[]> batchArgs = orderDetailsByOrdersId.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .map(detail -> new Object[]{entry.getKey(), detail.getProductId(), detail.getQuantity(),
+                                detail.getName(), detail.getPrice(), detail.getImageUrl()}))
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
     }
 }
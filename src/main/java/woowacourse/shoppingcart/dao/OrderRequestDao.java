@@ -0,0 +1,89 @@
+package woowacourse.shoppingcart.dao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import woowacourse.shoppingcart.dto.OrderStatusResponse;
+import woowacourse.shoppingcart.dto.OrderStatusResponse.Status;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+public class OrderRequestDao {
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderRequestDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void save(final String requestId, final Long customerId, final String payload) {
+        final String sql = "INSERT INTO order_request (id, customer_id, payload, status) VALUES (?, ?, ?, ?)";
+        jdbcTemplate.update(sql, requestId, customerId, payload, Status.PENDING.name());
+    }
+
+    public void deleteById(final String requestId) {
+        final String sql = "DELETE FROM order_request WHERE id = ?";
+        jdbcTemplate.update(sql, requestId);
+    }
+
+    public Optional<OrderStatusResponse> findStatus(final Long customerId, final String requestId) {
+        final String sql = "SELECT status, orders_id, message FROM order_request WHERE id = ? AND customer_id = ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> OrderStatusResponse.of(
+                Status.valueOf(rs.getString("status")),
+                rs.getObject("orders_id", Long.class),
+                rs.getString("message")
+        ), requestId, customerId).stream().findAny();
+    }
+
+    public List<PendingRequest> findPending(final int limit) {
+        final String sql = "SELECT id, customer_id, payload FROM order_request "
+                + "WHERE status = ? ORDER BY created_at LIMIT ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new PendingRequest(
+                rs.getString("id"),
+                rs.getLong("customer_id"),
+                rs.getString("payload")
+        ), Status.PENDING.name(), limit);
+    }
+
+    public int complete(final Map<String, Long> ordersIdsByRequestId) {
+        final String sql = "UPDATE order_request SET status = ?, orders_id = ? WHERE id = ? AND status = ?";
+        final List<Object[]> batchArgs = ordersIdsByRequestId.entrySet().stream()
+                .map(entry -> new Object[]{
+                        Status.COMPLETED.name(), entry.getValue(), entry.getKey(), Status.PENDING.name()})
+                .collect(Collectors.toList());
+
+        return Arrays.stream(jdbcTemplate.batchUpdate(sql, batchArgs)).sum();
+    }
+
+    public int fail(final String requestId, final String message) {
+        final String sql = "UPDATE order_request SET status = ?, message = ? WHERE id = ? AND status = ?";
+        return jdbcTemplate.update(sql, Status.FAILED.name(), message, requestId, Status.PENDING.name());
+    }
+
+    public static class PendingRequest {
+        private final String requestId;
+        private final Long customerId;
+        private final String payload;
+
+        public PendingRequest(final String requestId, final Long customerId, final String payload) {
+            this.requestId = requestId;
+            this.customerId = customerId;
+            this.payload = payload;
+        }
+
+        public String getRequestId() {
+            return requestId;
+        }
+
+        public Long getCustomerId() {
+            return customerId;
+        }
+
+        public String getPayload() {
+            return payload;
+        }
+    }
+}
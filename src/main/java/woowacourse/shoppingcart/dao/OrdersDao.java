@@ -1,15 +1,27 @@
 package woowacourse.shoppingcart.dao;
 
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import woowacourse.shoppingcart.domain.OrderDetail;
+import woowacourse.shoppingcart.domain.Orders;
+import woowacourse.shoppingcart.exception.InvalidOrderException;
 
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Repository
 public class OrdersDao {
+    private static final String ORDERS_WITH_DETAILS_SQL =
+            "SELECT o.id AS orders_id, o.total_price, d.product_id, d.quantity, d.name, d.price, d.image_url "
+                    + "FROM orders o "
+                    + "LEFT JOIN orders_detail d ON d.orders_id = o.id ";
 
     private final JdbcTemplate jdbcTemplate;
 
@@ -17,13 +29,14 @@ public class OrdersDao {
         this.jdbcTemplate = jdbcTemplate;
     }
 
-    public Long addOrders(final Long customerId) {
-        final String sql = "INSERT INTO orders (customer_id) VALUES (?)";
+    public Long addOrders(final Long customerId, final long totalPrice) {
+        final String sql = "INSERT INTO orders (customer_id, total_price) VALUES (?, ?)";
         final KeyHolder keyHolder = new GeneratedKeyHolder();
 
         jdbcTemplate.update(con -> {
             PreparedStatement preparedStatement = con.prepareStatement(sql, new String[]{"id"});
             preparedStatement.setLong(1, customerId);
+            preparedStatement.setLong(2, totalPrice);
             return preparedStatement;
         }, keyHolder);
         return keyHolder.getKey().longValue();
@@ -38,4 +51,42 @@ public class OrdersDao {
         final String query = "SELECT EXISTS(SELECT * FROM orders WHERE customer_id = ? AND id = ?)";
         return jdbcTemplate.queryForObject(query, Boolean.class, customerId, orderId);
     }
+
+    public List<Orders> findOrdersByCustomerId(final Long customerId) {
+        final String sql = ORDERS_WITH_DETAILS_SQL + "WHERE o.customer_id = ? ORDER BY o.id, d.id";
+        return findOrdersWithDetails(sql, customerId);
+    }
+
+    public Orders findOrderById(final Long orderId) {
+        final String sql = ORDERS_WITH_DETAILS_SQL + "WHERE o.id = ? ORDER BY d.id";
+        return findOrdersWithDetails(sql, orderId).stream()
+                .findFirst()
+                .orElseThrow(InvalidOrderException::new);
+    }
+
+    private List<Orders> findOrdersWithDetails(final String sql, final Long id) {
+        final Map<Long, List<OrderDetail>> orderDetailsByOrderId = new LinkedHashMap<>();
+        final Map<Long, Long> totalPriceByOrderId = new LinkedHashMap<>();
+        final RowCallbackHandler groupByOrderId = rs -> {
+            final long orderId = rs.getLong("orders_id");
+            totalPriceByOrderId.putIfAbsent(orderId, rs.getLong("total_price"));
+            final List<OrderDetail> orderDetails =
+                    orderDetailsByOrderId.computeIfAbsent(orderId, key -> new ArrayList<>());
+            final long productId = rs.getLong("product_id");
+            if (!rs.wasNull()) {
+                orderDetails.add(new OrderDetail(
+                        productId,
+                        rs.getInt("price"),
+                        rs.getString("name"),
+                        rs.getString("image_url"),
+                        rs.getInt("quantity")
+                ));
+            }
+        };
+        jdbcTemplate.query(sql, groupByOrderId, id);
+
+        return orderDetailsByOrderId.entrySet().stream()
+                .map(entry -> new Orders(entry.getKey(), totalPriceByOrderId.get(entry.getKey()), entry.getValue()))
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,52 @@
+package woowacourse.shoppingcart.dao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import woowacourse.shoppingcart.domain.OutboxEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+public class OutboxDao {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public OutboxDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void save(final List<OutboxEvent> events) {
+        final String sql = "INSERT INTO outbox (aggregate_type, aggregate_id, event_type, payload) VALUES (?, ?, ?, ?)";
+        final List<Object[]> batchArgs = events.stream()
+                .map(event -> new Object[]{
+                        event.getAggregateType(), event.getAggregateId(), event.getEventType(), event.getPayload()})
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate(sql, batchArgs);
+    }
+
+    public List<OutboxEvent> findAfter(final long lastId, final int limit) {
+        final String sql = "SELECT id, aggregate_type, aggregate_id, event_type, payload FROM outbox "
+                + "WHERE id > ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new OutboxEvent(
+                rs.getLong("id"),
+                rs.getString("aggregate_type"),
+                rs.getLong("aggregate_id"),
+                rs.getString("event_type"),
+                rs.getString("payload")
+        ), lastId, limit);
+    }
+
+    public int deleteByIds(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        final String sql = "DELETE FROM outbox WHERE id IN (:ids)";
+        return namedParameterJdbcTemplate.update(sql, Map.of("ids", ids));
+    }
+}
@@ -1,10 +1,14 @@
 package woowacourse.shoppingcart.dao;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 import woowacourse.shoppingcart.domain.Product;
+import woowacourse.shoppingcart.dto.ProductResponse;
 import woowacourse.shoppingcart.exception.InvalidProductException;
 
 import java.sql.PreparedStatement;
@@ -13,6 +17,21 @@ import java.util.Objects;
 
 @Repository
 public class ProductDao {
+    public static final String CACHE_NAME = "product";
+
+    private static final String PRODUCT_WITH_CART_SQL =
+            "SELECT p.id, p.name, p.price, p.image_url, c.id AS cart_id, c.quantity "
+                    + "FROM product p "
+                    + "LEFT JOIN cart_item c ON c.product_id = p.id AND c.customer_id = ? ";
+    private static final RowMapper<ProductResponse> PRODUCT_WITH_CART_ROW_MAPPER = (resultSet, rowNumber) ->
+            new ProductResponse(
+                    resultSet.getLong("id"),
+                    resultSet.getString("name"),
+                    resultSet.getInt("price"),
+                    resultSet.getString("image_url"),
+                    resultSet.getObject("cart_id", Long.class),
+                    resultSet.getInt("quantity")
+            );
 
     private final JdbcTemplate jdbcTemplate;
 
@@ -35,6 +54,7 @@ public class ProductDao {
         return Objects.requireNonNull(keyHolder.getKey()).longValue();
     }
 
+    @Cacheable(cacheNames = CACHE_NAME, key = "#productId")
     public Product findProductById(final Long productId) {
         try {
             final String query = "SELECT name, price, image_url FROM product WHERE id = ?";
@@ -62,6 +82,33 @@ public class ProductDao {
                         ));
     }
 
+    public List<ProductResponse> findProductsWithCartAfter(final Long customerId, final Long productId, final int limit) {
+        final String query = PRODUCT_WITH_CART_SQL + "WHERE p.id > ? ORDER BY p.id LIMIT ?";
+        return jdbcTemplate.query(query, PRODUCT_WITH_CART_ROW_MAPPER, customerId, productId, limit);
+    }
+
+    public ProductResponse findProductWithCartById(final Long customerId, final Long productId) {
+        try {
+            final String query = PRODUCT_WITH_CART_SQL + "WHERE p.id = ?";
+            return jdbcTemplate.queryForObject(query, PRODUCT_WITH_CART_ROW_MAPPER, customerId, productId);
+        } catch (EmptyResultDataAccessException e) {
+            throw new InvalidProductException();
+        }
+    }
+
+    public List<Product> findProductsAfter(final Long productId, final int limit) {
+        final String query = "SELECT id, name, price, image_url FROM product WHERE id > ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(query,
+                (resultSet, rowNumber) ->
+                        new Product(
+                                resultSet.getLong("id"),
+                                resultSet.getString("name"),
+                                resultSet.getInt("price"),
+                                resultSet.getString("image_url")
+                        ), productId, limit);
+    }
+
+    @CacheEvict(cacheNames = CACHE_NAME, key = "#productId")
     public void delete(final Long productId) {
         final String query = "DELETE FROM product WHERE id = ?";
         jdbcTemplate.update(query, productId);
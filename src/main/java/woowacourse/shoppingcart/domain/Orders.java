@@ -5,17 +5,29 @@ import java.util.List;
 public class Orders {
 
     private final Long id;
+    private final long totalPrice;
     private final List<OrderDetail> orderDetails;
 
-    public Orders(final Long id, final List<OrderDetail> orderDetails) {
+    public Orders(final Long id, final long totalPrice, final List<OrderDetail> orderDetails) {
         this.id = id;
+        this.totalPrice = totalPrice;
         this.orderDetails = orderDetails;
     }
 
+    public static long totalPriceOf(final List<OrderDetail> orderDetails) {
+        return orderDetails.stream()
+                .mapToLong(orderDetail -> (long) orderDetail.getPrice() * orderDetail.getQuantity())
+                .sum();
+    }
+
     public Long getId() {
         return id;
     }
 
+    public long getTotalPrice() {
+        return totalPrice;
+    }
+
     public List<OrderDetail> getOrderDetails() {
         return orderDetails;
     }
@@ -0,0 +1,43 @@
+package woowacourse.shoppingcart.domain;
+
+public class OutboxEvent {
+    private final Long id;
+    private final String aggregateType;
+    private final Long aggregateId;
+    private final String eventType;
+    private final String payload;
+
+    public OutboxEvent(final String aggregateType, final Long aggregateId, final String eventType,
+                       final String payload) {
+        this(null, aggregateType, aggregateId, eventType, payload);
+    }
+
+    public OutboxEvent(final Long id, final String aggregateType, final Long aggregateId, final String eventType,
+                       final String payload) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+}
@@ -3,12 +3,10 @@ package woowacourse.shoppingcart.domain;
 import woowacourse.shoppingcart.support.Encryptor;
 import woowacourse.shoppingcart.support.SHA256Encryptor;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 public class Password {
+    private static final Encryptor ENCRYPTOR = new SHA256Encryptor();
+
     private final String password;
-    private final Encryptor encryptor = new SHA256Encryptor();
 
     public Password(String password) {
         this.password = password;
@@ -26,14 +24,28 @@ public class Password {
     }
 
     private void checkPattern() {
-        String regExpPw = "^(?=.*[a-z])(?=.*[A-Z])(?=.*[0-9])(?=.*[^a-zA-Z0-9ㄱ-힣])";
-        Matcher matcher = Pattern.compile(regExpPw).matcher(password);
-        if(!matcher.find()){
+        boolean lowerCase = false;
+        boolean upperCase = false;
+        boolean digit = false;
+        boolean special = false;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if ('a' <= c && c <= 'z') {
+                lowerCase = true;
+            } else if ('A' <= c && c <= 'Z') {
+                upperCase = true;
+            } else if ('0' <= c && c <= '9') {
+                digit = true;
+            } else if (c < 'ㄱ' || '힣' < c) {
+                special = true;
+            }
+        }
+        if (!(lowerCase && upperCase && digit && special)) {
             throw new IllegalArgumentException("비밀번호는 소문자, 대문자, 숫자, 특수문자를 모두 포함해야 합니다.");
         }
     }
 
     public String encryptPassword() {
-        return encryptor.encrypt(password);
+        return ENCRYPTOR.encrypt(password);
     }
 }
@@ -1,7 +1,6 @@
 package woowacourse.shoppingcart.domain;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Locale;
 
 public class UserName {
     private final String userName;
@@ -22,13 +21,21 @@ public class UserName {
     }
 
     private void checkPattern() {
-        String regExpPw = "^[a-z0-9_]*$";
-        Matcher matcher = Pattern.compile(regExpPw).matcher(userName);
-        if(!matcher.find()){
-            throw new IllegalArgumentException("이름은 소문자, 숫자, 언더스코어만을 포함할 수 있습니다.");
+        for (int i = 0; i < userName.length(); i++) {
+            if (!isAllowed(userName.charAt(i))) {
+                throw new IllegalArgumentException("이름은 소문자, 숫자, 언더스코어만을 포함할 수 있습니다.");
+            }
         }
     }
 
+    private static boolean isAllowed(char c) {
+        return ('a' <= c && c <= 'z') || ('0' <= c && c <= '9') || c == '_';
+    }
+
+    public static String normalize(String userName) {
+        return userName.toLowerCase(Locale.ROOT);
+    }
+
     public String getName() {
         return userName;
     }
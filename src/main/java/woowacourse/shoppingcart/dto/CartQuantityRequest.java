@@ -0,0 +1,24 @@
+package woowacourse.shoppingcart.dto;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+public class CartQuantityRequest {
+    @NotNull
+    private final Long cartId;
+    @Min(1)
+    private final int quantity;
+
+    public CartQuantityRequest(final Long cartId, final int quantity) {
+        this.cartId = cartId;
+        this.quantity = quantity;
+    }
+
+    public Long getCartId() {
+        return cartId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+}
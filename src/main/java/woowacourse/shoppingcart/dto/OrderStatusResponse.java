@@ -0,0 +1,33 @@
+package woowacourse.shoppingcart.dto;
+
+public class OrderStatusResponse {
+    private final Status status;
+    private final Long orderId;
+    private final String message;
+
+    private OrderStatusResponse(final Status status, final Long orderId, final String message) {
+        this.status = status;
+        this.orderId = orderId;
+        this.message = message;
+    }
+
+    public static OrderStatusResponse of(final Status status, final Long orderId, final String message) {
+        return new OrderStatusResponse(status, orderId, message);
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public enum Status {
+        PENDING, COMPLETED, FAILED
+    }
+}
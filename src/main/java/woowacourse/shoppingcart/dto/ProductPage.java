@@ -0,0 +1,34 @@
+package woowacourse.shoppingcart.dto;
+
+import java.util.List;
+
+public class ProductPage {
+    private final List<ProductResponse> products;
+    private final Long nextCursor;
+
+    private ProductPage(final List<ProductResponse> products, final Long nextCursor) {
+        this.products = products;
+        this.nextCursor = nextCursor;
+    }
+
+    public static ProductPage of(final List<ProductResponse> fetchedProducts, final int size) {
+        if (fetchedProducts.size() <= size) {
+            return new ProductPage(fetchedProducts, null);
+        }
+
+        final List<ProductResponse> products = fetchedProducts.subList(0, size);
+        return new ProductPage(products, products.get(size - 1).getId());
+    }
+
+    public List<ProductResponse> getProducts() {
+        return products;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
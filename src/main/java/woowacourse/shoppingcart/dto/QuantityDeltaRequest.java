@@ -0,0 +1,27 @@
+package woowacourse.shoppingcart.dto;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+public class QuantityDeltaRequest {
+    @Min(-1_000)
+    @Max(1_000)
+    private int delta;
+
+    private QuantityDeltaRequest() {
+    }
+
+    public QuantityDeltaRequest(int delta) {
+        this.delta = delta;
+    }
+
+    public int getDelta() {
+        return delta;
+    }
+
+    @AssertTrue(message = "수량 증감값은 0일 수 없습니다.")
+    private boolean isNonZeroDelta() {
+        return delta != 0;
+    }
+}
@@ -0,0 +1,62 @@
+package woowacourse.shoppingcart.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import woowacourse.shoppingcart.dao.CartItemDao;
+import woowacourse.shoppingcart.domain.Cart;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class CartCache {
+    private final CartItemDao cartItemDao;
+    private final Cache<Long, List<Cart>> carts;
+
+    public CartCache(CartItemDao cartItemDao,
+                     @Value("${cart.cache.maximum-size}") long maximumSize,
+                     @Value("${cart.cache.expire-after-write}") Duration expireAfterWrite) {
+        this.cartItemDao = cartItemDao;
+        this.carts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public List<Cart> findCarts(Long customerId) {
+        return carts.get(customerId, id -> List.copyOf(cartItemDao.findCartsByCustomerId(id)));
+    }
+
+    public void invalidate(Long customerId) {
+        carts.invalidate(customerId);
+        afterCompletion(() -> carts.invalidate(customerId));
+    }
+
+    public void invalidateByProduct(Long productId) {
+        evictCartsContaining(productId);
+        afterCompletion(() -> evictCartsContaining(productId));
+    }
+
+    private void evictCartsContaining(Long productId) {
+        carts.asMap().entrySet().removeIf(entry -> entry.getValue().stream()
+                .anyMatch(cart -> Objects.equals(cart.getProductId(), productId)));
+    }
+
+    private void afterCompletion(Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidation.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,164 @@
+package woowacourse.shoppingcart.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import woowacourse.shoppingcart.dao.CartItemDao;
+import woowacourse.shoppingcart.domain.OutboxEvent;
+import woowacourse.shoppingcart.dto.CartQuantityRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind buffer for cart quantity updates. Updates are coalesced per customer and cart id, so only the last
+ * quantity is written, and flushed together in one batch. An update stays pending until the write that carried it has
+ * committed, so a read that flushes first never misses one that another thread is still writing. Writers and flushers
+ * touch a customer's entry only through {@link ConcurrentHashMap#compute} and its variants, which lock a single bin.
+ * CART_QUANTITY_CHANGED events for buffered updates are recorded by the flush, in the same transaction as the write.
+ * Once a flush commits, the flushed customers' {@link CartCache} entries are invalidated, because a read that ran
+ * between the offer and the flush may have cached the old quantity.
+ */
+@Component
+public class CartQuantityBuffer implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(CartQuantityBuffer.class);
+
+    private final CartItemDao cartItemDao;
+    private final CartCache cartCache;
+    private final OutboxRecorder outboxRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final ConcurrentHashMap<Long, Map<Long, CartQuantityRequest>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public CartQuantityBuffer(CartItemDao cartItemDao, CartCache cartCache, OutboxRecorder outboxRecorder,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${cart.write-behind.enabled}") boolean enabled,
+                              @Value("${cart.write-behind.flush-interval}") Duration flushInterval) {
+        this.cartItemDao = cartItemDao;
+        this.cartCache = cartCache;
+        this.outboxRecorder = outboxRecorder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.scheduler = enabled ? startScheduler(flushInterval) : null;
+    }
+
+    private ScheduledExecutorService startScheduler(Duration flushInterval) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cart-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushAllQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return scheduler;
+    }
+
+    public boolean offer(Long customerId, Long cartId, int quantity) {
+        if (!enabled) {
+            return false;
+        }
+
+        pending.compute(customerId, (id, updates) -> {
+            Map<Long, CartQuantityRequest> merged = updates == null ? new HashMap<>() : updates;
+            merged.put(cartId, new CartQuantityRequest(cartId, quantity));
+            return merged;
+        });
+        return true;
+    }
+
+    public void flush(Long customerId) {
+        Map<Long, CartQuantityRequest> updates = snapshot(customerId);
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        write(Map.of(customerId, updates));
+    }
+
+    public void flushAll() {
+        Map<Long, Map<Long, CartQuantityRequest>> batch = new HashMap<>();
+        for (Long customerId : pending.keySet()) {
+            Map<Long, CartQuantityRequest> updates = snapshot(customerId);
+            if (!updates.isEmpty()) {
+                batch.put(customerId, updates);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private Map<Long, CartQuantityRequest> snapshot(Long customerId) {
+        Map<Long, CartQuantityRequest> snapshot = new HashMap<>();
+        pending.computeIfPresent(customerId, (id, updates) -> {
+            snapshot.putAll(updates);
+            return updates;
+        });
+        return snapshot;
+    }
+
+    private void flushAllQuietly() {
+        try {
+            flushAll();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("cart write-behind flush failed, will retry", e);
+        }
+    }
+
+    private void write(Map<Long, Map<Long, CartQuantityRequest>> batch) {
+        Map<Long, List<CartQuantityRequest>> quantities = new HashMap<>();
+        batch.forEach((customerId, updates) -> quantities.put(customerId, new ArrayList<>(updates.values())));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, List<CartQuantityRequest>> updated = cartItemDao.updateProductQuantities(quantities);
+            outboxRecorder.recordAll(quantityChangedEvents(updated));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    discard(batch);
+                    batch.keySet().forEach(cartCache::invalidate);
+                }
+            });
+        });
+    }
+
+    private List<OutboxEvent> quantityChangedEvents(Map<Long, List<CartQuantityRequest>> updated) {
+        return updated.entrySet().stream()
+                .map(entry -> outboxRecorder.event(OutboxRecorder.CART, entry.getKey(),
+                        OutboxRecorder.CART_QUANTITY_CHANGED, Map.of("quantities", entry.getValue())))
+                .collect(Collectors.toList());
+    }
+
+    private void discard(Map<Long, Map<Long, CartQuantityRequest>> written) {
+        written.forEach((customerId, quantities) -> pending.computeIfPresent(customerId, (id, updates) -> {
+            quantities.forEach((cartId, quantity) -> updates.remove(cartId, quantity));
+            return updates.isEmpty() ? null : updates;
+        }));
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        }
+        flushAll();
+    }
+}
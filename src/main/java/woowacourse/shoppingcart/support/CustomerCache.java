@@ -0,0 +1,84 @@
+package woowacourse.shoppingcart.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import woowacourse.shoppingcart.dao.CustomerDao;
+import woowacourse.shoppingcart.domain.UserName;
+import woowacourse.shoppingcart.exception.InvalidCustomerException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class CustomerCache {
+    private final CustomerDao customerDao;
+    private final Cache<String, Optional<Long>> customerIds;
+
+    public CustomerCache(CustomerDao customerDao,
+                         @Value("${customer.cache.maximum-size}") long maximumSize,
+                         @Value("${customer.cache.expire-after-write}") Duration expireAfterWrite,
+                         @Value("${customer.cache.negative-expire-after-write}") Duration negativeExpireAfterWrite) {
+        this.customerDao = customerDao;
+        this.customerIds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new NegativeAware(expireAfterWrite, negativeExpireAfterWrite))
+                .build();
+    }
+
+    public Optional<Long> findIdByUserName(String userName) {
+        return customerIds.get(UserName.normalize(userName), this::load);
+    }
+
+    private Optional<Long> load(String userName) {
+        try {
+            return Optional.of(customerDao.findIdByUserName(userName));
+        } catch (InvalidCustomerException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void invalidate(String userName) {
+        String key = UserName.normalize(userName);
+        customerIds.invalidate(key);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                customerIds.invalidate(key);
+            }
+        });
+    }
+
+    private static class NegativeAware implements Expiry<String, Optional<Long>> {
+        private final long presentNanos;
+        private final long absentNanos;
+
+        private NegativeAware(Duration present, Duration absent) {
+            this.presentNanos = present.toNanos();
+            this.absentNanos = absent.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Optional<Long> value, long currentTime) {
+            return value.isPresent() ? presentNanos : absentNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<Long> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<Long> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
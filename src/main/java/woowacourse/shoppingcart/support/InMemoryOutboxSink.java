@@ -0,0 +1,23 @@
+package woowacourse.shoppingcart.support;
+
+import woowacourse.shoppingcart.domain.OutboxEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps published events on the heap without bound, for tests only. Select it with {@code outbox.sink=memory}.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+    private final List<OutboxEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        this.events.addAll(events);
+    }
+
+    public List<OutboxEvent> getEvents() {
+        return List.copyOf(events);
+    }
+}
@@ -0,0 +1,154 @@
+package woowacourse.shoppingcart.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class InstrumentedDataSourcePostProcessor implements BeanPostProcessor {
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "createStatement", "prepareCall");
+
+    private final SlowQueryLog slowQueryLog;
+
+    public InstrumentedDataSourcePostProcessor(final SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource) {
+            final DataSource dataSource = (DataSource) bean;
+            return proxy(DataSource.class, dataSource, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                if (method.getName().equals("getConnection")) {
+                    return instrumentedConnection((Connection) result, dataSource);
+                }
+                return result;
+            });
+        }
+        return bean;
+    }
+
+    private Connection instrumentedConnection(final Connection connection, final DataSource dataSource) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (STATEMENT_METHODS.contains(method.getName())) {
+                return instrumentedStatement(method.getReturnType(), result, sqlArgument(args), dataSource);
+            }
+            return result;
+        });
+    }
+
+    private Object instrumentedStatement(final Class<?> type, final Object statement, final String preparedSql,
+                                         final DataSource dataSource) {
+        final BindCapture binds = slowQueryLog.isEnabled() ? new BindCapture() : BindCapture.NONE;
+        return proxy(type.asSubclass(Statement.class), statement, (proxy, method, args) -> {
+            String name = method.getName();
+            if (isBind(name, args)) {
+                binds.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                return invoke(statement, method, args);
+            }
+            if (name.equals("clearParameters")) {
+                binds.clear();
+            }
+            if (name.equals("addBatch")) {
+                binds.addBatch();
+            }
+            if (name.equals("clearBatch")) {
+                binds.clearBatch();
+            }
+            if (!name.startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+
+            long startNanos = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                long elapsedNanos = System.nanoTime() - startNanos;
+                QueryStatistics.record(elapsedNanos);
+                String sql = preparedSql == null ? sqlArgument(args) : preparedSql;
+                slowQueryLog.record(dataSource, sql, binds.values(), binds.batchSize(), elapsedNanos);
+                if (name.equals("executeBatch")) {
+                    binds.clearBatch();
+                }
+            }
+        });
+    }
+
+    private static boolean isBind(final String methodName, final Object[] args) {
+        return methodName.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer;
+    }
+
+    private static String sqlArgument(final Object[] args) {
+        if (args != null && args.length > 0 && args[0] instanceof String) {
+            return (String) args[0];
+        }
+        return null;
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static class BindCapture {
+        private static final BindCapture NONE = new BindCapture() {
+            @Override
+            void put(final Integer index, final Object value) {
+            }
+
+            @Override
+            void addBatch() {
+            }
+        };
+
+        private Map<Integer, Object> values;
+        private int batchSize;
+
+        void put(final Integer index, final Object value) {
+            if (values == null) {
+                values = new TreeMap<>();
+            }
+            values.put(index, value);
+        }
+
+        void clear() {
+            if (values != null) {
+                values.clear();
+            }
+        }
+
+        void addBatch() {
+            batchSize++;
+        }
+
+        void clearBatch() {
+            batchSize = 0;
+        }
+
+        Map<Integer, Object> values() {
+            return values == null ? Map.of() : values;
+        }
+
+        int batchSize() {
+            return batchSize;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final Object delegate, final InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, handler);
+    }
+}
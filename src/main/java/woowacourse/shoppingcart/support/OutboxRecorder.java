@@ -0,0 +1,42 @@
+package woowacourse.shoppingcart.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import woowacourse.shoppingcart.dao.OutboxDao;
+import woowacourse.shoppingcart.domain.OutboxEvent;
+
+import java.util.List;
+
+@Component
+public class OutboxRecorder {
+    public static final String CART = "cart";
+    public static final String ORDER = "order";
+    public static final String CART_QUANTITY_CHANGED = "CART_QUANTITY_CHANGED";
+
+    private final OutboxDao outboxDao;
+    private final ObjectMapper objectMapper;
+
+    public OutboxRecorder(OutboxDao outboxDao, ObjectMapper objectMapper) {
+        this.outboxDao = outboxDao;
+        this.objectMapper = objectMapper;
+    }
+
+    public void record(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        recordAll(List.of(event(aggregateType, aggregateId, eventType, payload)));
+    }
+
+    public void recordAll(List<OutboxEvent> events) {
+        if (!events.isEmpty()) {
+            outboxDao.save(events);
+        }
+    }
+
+    public OutboxEvent event(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        try {
+            return new OutboxEvent(aggregateType, aggregateId, eventType, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트를 직렬화할 수 없습니다.", e);
+        }
+    }
+}
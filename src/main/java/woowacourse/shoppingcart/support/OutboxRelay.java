@@ -0,0 +1,76 @@
+package woowacourse.shoppingcart.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import woowacourse.shoppingcart.dao.OutboxDao;
+import woowacourse.shoppingcart.domain.OutboxEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Publishes outbox rows in id order and deletes them once the sink accepts them. Delivery is at least once.
+ * Every relay starts from the lowest id, so rows whose transactions committed after a higher id had already been
+ * read are picked up on the next relay even while newer rows keep arriving.
+ */
+public class OutboxRelay implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxDao outboxDao;
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+
+    public OutboxRelay(OutboxDao outboxDao, OutboxSink sink, int batchSize, Duration pollInterval) {
+        this.outboxDao = outboxDao;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = pollInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::relayQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized int relay() throws Exception {
+        long lastId = 0;
+        int relayed = 0;
+        List<OutboxEvent> events;
+        do {
+            events = outboxDao.findAfter(lastId, batchSize);
+            if (events.isEmpty()) {
+                return relayed;
+            }
+
+            sink.publish(events);
+            outboxDao.deleteByIds(events.stream()
+                    .map(OutboxEvent::getId)
+                    .collect(Collectors.toList()));
+            lastId = events.get(events.size() - 1).getId();
+            relayed += events.size();
+        } while (events.size() == batchSize);
+        return relayed;
+    }
+
+    private void relayQuietly() {
+        try {
+            relay();
+        } catch (Exception e) {
+            log.warn("outbox relay failed, will retry", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        relayQuietly();
+    }
+}
@@ -0,0 +1,10 @@
+package woowacourse.shoppingcart.support;
+
+import woowacourse.shoppingcart.domain.OutboxEvent;
+
+import java.util.List;
+
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events) throws Exception;
+}
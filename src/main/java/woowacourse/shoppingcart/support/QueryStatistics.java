@@ -0,0 +1,36 @@
+package woowacourse.shoppingcart.support;
+
+import java.util.concurrent.TimeUnit;
+
+public class QueryStatistics {
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private long count;
+    private long elapsedNanos;
+
+    public static QueryStatistics start() {
+        QueryStatistics statistics = new QueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static void record(long elapsedNanos) {
+        QueryStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.count++;
+            statistics.elapsedNanos += elapsedNanos;
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -2,28 +2,36 @@ package woowacourse.shoppingcart.support;
 
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 @Component
-public class SHA256Encryptor implements Encryptor{
+public class SHA256Encryptor implements Encryptor {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<MessageDigest> MESSAGE_DIGEST = ThreadLocal.withInitial(SHA256Encryptor::newMessageDigest);
 
     @Override
-    public String encrypt(String plainText){
+    public String encrypt(String plainText) {
+        MessageDigest messageDigest = MESSAGE_DIGEST.get();
+        messageDigest.reset();
+        return bytesToHex(messageDigest.digest(plainText.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newMessageDigest() {
         try {
-            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
-            messageDigest.update(plainText.getBytes());
-            return bytesToHex(messageDigest.digest());
-        } catch(NoSuchAlgorithmException e){
-            throw new RuntimeException();
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
     private String bytesToHex(byte[] bytes) {
-        StringBuilder builder = new StringBuilder();
-        for (byte b : bytes) {
-            builder.append(String.format("%02x", b));
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX[(bytes[i] >> 4) & 0x0f];
+            hex[i * 2 + 1] = HEX[bytes[i] & 0x0f];
         }
-        return builder.toString();
+        return new String(hex);
     }
 }
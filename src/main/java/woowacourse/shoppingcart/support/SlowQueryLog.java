@@ -0,0 +1,169 @@
+package woowacourse.shoppingcart.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class SlowQueryLog implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLog.class);
+    private static final String DAO_PACKAGE = "woowacourse.shoppingcart.dao.";
+    private static final String REDACTED = "****";
+    private static final Pattern CUSTOMER_TABLE = Pattern.compile("\\bcustomer\\b");
+    private static final Pattern CUSTOMER_INSERT_COLUMNS = Pattern.compile("insert\\s+into\\s+customer\\s*\\(([^)]*)\\)");
+    private static final Pattern PASSWORD_COMPARISON = Pattern.compile("\\bpassword\\s*=\\s*$");
+
+    private final boolean enabled;
+    private final long thresholdNanos;
+    private final boolean explain;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Set<Integer>> passwordIndexes = new ConcurrentHashMap<>();
+
+    public SlowQueryLog(boolean enabled, Duration threshold, boolean explain, int queueCapacity) {
+        this.enabled = enabled;
+        this.thresholdNanos = threshold.toNanos();
+        this.explain = explain;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-log");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void record(DataSource dataSource, String sql, Map<Integer, Object> binds, int batchSize,
+                       long elapsedNanos) {
+        if (!enabled || sql == null || elapsedNanos < thresholdNanos) {
+            return;
+        }
+
+        String caller = findCaller();
+        Map<Integer, Object> bindSnapshot = new TreeMap<>(binds);
+        executor.execute(() -> write(dataSource, sql, bindSnapshot, batchSize, elapsedNanos, caller));
+    }
+
+    private String findCaller() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(DAO_PACKAGE) && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(DAO_PACKAGE.length()) + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+
+    private void write(DataSource dataSource, String sql, Map<Integer, Object> binds, int batchSize,
+                       long elapsedNanos, String caller) {
+        double elapsedMillis = elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        if (batchSize > 0) {
+            log.warn("slow query {}ms caller={} sql=[{}] batch={} lastBinds={}",
+                    String.format("%.3f", elapsedMillis), caller, sql, batchSize, redact(sql, binds));
+            return;
+        }
+        if (explain && isSelect(sql)) {
+            log.warn("slow query {}ms caller={} sql=[{}] binds={} plan=[{}]",
+                    String.format("%.3f", elapsedMillis), caller, sql, redact(sql, binds), explain(dataSource, sql, binds));
+            return;
+        }
+        log.warn("slow query {}ms caller={} sql=[{}] binds={}",
+                String.format("%.3f", elapsedMillis), caller, sql, redact(sql, binds));
+    }
+
+    private Map<Integer, Object> redact(String sql, Map<Integer, Object> binds) {
+        Set<Integer> indexes = passwordIndexes.computeIfAbsent(sql, this::findPasswordIndexes);
+        Map<Integer, Object> redacted = new TreeMap<>(binds);
+        indexes.stream()
+                .filter(redacted::containsKey)
+                .forEach(index -> redacted.put(index, REDACTED));
+        return redacted;
+    }
+
+    private Set<Integer> findPasswordIndexes(String sql) {
+        String normalized = sql.toLowerCase(Locale.ROOT);
+        if (!CUSTOMER_TABLE.matcher(normalized).find() || !normalized.contains("password")) {
+            return Set.of();
+        }
+
+        Set<Integer> indexes = new HashSet<>();
+        Matcher insert = CUSTOMER_INSERT_COLUMNS.matcher(normalized);
+        if (insert.find()) {
+            String[] columns = insert.group(1).split(",");
+            for (int i = 0; i < columns.length; i++) {
+                if (columns[i].trim().equals("password")) {
+                    indexes.add(i + 1);
+                }
+            }
+        }
+
+        int parameterIndex = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) != '?') {
+                continue;
+            }
+            parameterIndex++;
+            if (PASSWORD_COMPARISON.matcher(normalized.substring(0, i)).find()) {
+                indexes.add(parameterIndex);
+            }
+        }
+        return indexes;
+    }
+
+    private boolean isSelect(String sql) {
+        return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select");
+    }
+
+    private String explain(DataSource dataSource, String sql, Map<Integer, Object> binds) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (Map.Entry<Integer, Object> bind : binds.entrySet()) {
+                statement.setObject(bind.getKey(), bind.getValue());
+            }
+            return readPlan(statement);
+        } catch (SQLException e) {
+            return "EXPLAIN failed: " + e.getMessage();
+        }
+    }
+
+    private String readPlan(PreparedStatement statement) throws SQLException {
+        StringJoiner plan = new StringJoiner(" | ");
+        try (ResultSet resultSet = statement.executeQuery()) {
+            int columnCount = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                StringJoiner row = new StringJoiner(", ");
+                for (int column = 1; column <= columnCount; column++) {
+                    row.add(String.valueOf(resultSet.getObject(column)));
+                }
+                plan.add(row.toString());
+            }
+        }
+        return plan.toString();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+    }
+}
@@ -9,12 +9,16 @@ import woowacourse.auth.support.AuthenticationPrincipal;
 import woowacourse.shoppingcart.application.CartService;
 import woowacourse.shoppingcart.domain.Cart;
 import woowacourse.shoppingcart.domain.Product;
+import woowacourse.shoppingcart.dto.CartQuantityRequest;
+import woowacourse.shoppingcart.dto.QuantityDeltaRequest;
 import woowacourse.shoppingcart.dto.QuantityUpdateRequest;
 import woowacourse.shoppingcart.dto.Request;
 
+import javax.validation.Valid;
 import java.net.URI;
 import java.util.List;
 
+@Validated
 @RestController
 @RequestMapping("/api/customers/me/carts")
 public class CartItemController {
@@ -26,28 +30,52 @@ public class CartItemController {
 
     @GetMapping
     public ResponseEntity<List<Cart>> getCartItems(@AuthenticationPrincipal LoginCustomer loginCustomer) {
-        return ResponseEntity.ok().body(cartService.findCarts(loginCustomer.getUserName()));
+        return ResponseEntity.ok().body(cartService.findCarts(loginCustomer.getId()));
     }
 
     @PostMapping
     public ResponseEntity<Void> addCartItem(@AuthenticationPrincipal LoginCustomer loginCustomer,
                                             @Validated(Request.id.class) @RequestBody final Product product) {
-        final Long cartId = cartService.addCart(loginCustomer.getUserName(), product.getId());
+        final Long cartId = cartService.addCart(loginCustomer.getId(), product.getId());
 
         return ResponseEntity.created(
                 URI.create("api/customers/me/carts/"+cartId)).build();
     }
 
+    @DeleteMapping
+    public ResponseEntity<Void> deleteCartItems(@AuthenticationPrincipal LoginCustomer loginCustomer,
+                                                @RequestParam final List<Long> cartIds) {
+        cartService.deleteCarts(loginCustomer.getId(), cartIds);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{cartId}")
     public ResponseEntity<Void> deleteCartItem(@AuthenticationPrincipal LoginCustomer loginCustomer,
                                                @PathVariable final Long cartId) {
-        cartService.deleteCart(loginCustomer.getUserName(), cartId);
+        cartService.deleteCart(loginCustomer.getId(), cartId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PatchMapping
+    public ResponseEntity<Void> updateQuantities(@AuthenticationPrincipal LoginCustomer loginCustomer,
+                                                 @RequestBody @Valid final List<CartQuantityRequest> quantities) {
+        cartService.updateQuantities(loginCustomer.getId(), quantities);
         return ResponseEntity.noContent().build();
     }
 
     @PatchMapping("/{cartId}")
-    public ResponseEntity<Void> updateQuantity(@PathVariable final Long cartId, @RequestBody QuantityUpdateRequest request) {
-        cartService.updateQuantity(cartId, request.getQuantity());
+    public ResponseEntity<Void> updateQuantity(@AuthenticationPrincipal LoginCustomer loginCustomer,
+                                               @PathVariable final Long cartId,
+                                               @RequestBody QuantityUpdateRequest request) {
+        cartService.updateQuantity(loginCustomer.getId(), cartId, request.getQuantity());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PatchMapping("/{cartId}/quantity")
+    public ResponseEntity<Void> increaseQuantity(@AuthenticationPrincipal LoginCustomer loginCustomer,
+                                                 @PathVariable final Long cartId,
+                                                 @RequestBody @Valid final QuantityDeltaRequest request) {
+        cartService.increaseQuantity(loginCustomer.getId(), cartId, request.getDelta());
         return ResponseEntity.noContent().build();
     }
 }
@@ -1,6 +1,7 @@
 package woowacourse.shoppingcart.ui;
 
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -15,6 +16,7 @@ import woowacourse.shoppingcart.exception.*;
 
 import javax.validation.ConstraintViolationException;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class ControllerAdvice {
@@ -61,6 +63,18 @@ public class ControllerAdvice {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ErrorResponse("인증되지 않은 사용자입니다."));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(final ServiceUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(final RejectedExecutionException e) {
+        return handleServiceUnavailable(new ServiceUnavailableException());
+    }
+
     @ExceptionHandler(DuplicateNameException.class)
     public ResponseEntity<ErrorResponse> handleDuplicatedName(final DuplicateNameException e) {
         return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
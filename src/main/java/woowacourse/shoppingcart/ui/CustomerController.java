@@ -12,6 +12,7 @@ import woowacourse.shoppingcart.dto.ExistCustomerResponse;
 
 import javax.validation.Valid;
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/customers")
@@ -23,10 +24,10 @@ public class CustomerController {
     }
 
     @PostMapping
-    public ResponseEntity<Void> signUp(@RequestBody @Valid CustomerRequest customerRequest) {
-        customerService.addCustomer(customerRequest);
-        return ResponseEntity.created(
-                URI.create("/api/customers/" + customerRequest.getUserName())).build();
+    public CompletableFuture<ResponseEntity<Void>> signUp(@RequestBody @Valid CustomerRequest customerRequest) {
+        return customerService.addCustomer(customerRequest)
+                .thenApply(ignored -> ResponseEntity.created(
+                        URI.create("/api/customers/" + customerRequest.getUserName())).build());
     }
 
     @GetMapping("/exists")
@@ -48,7 +49,7 @@ public class CustomerController {
 
     @DeleteMapping("/me")
     public ResponseEntity<Void> withDraw(@AuthenticationPrincipal LoginCustomer loginCustomer) {
-        customerService.deleteCustomer(loginCustomer.getUserName());
+        customerService.deleteCustomer(loginCustomer);
         return ResponseEntity.noContent().build();
     }
 }
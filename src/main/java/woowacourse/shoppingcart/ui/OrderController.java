@@ -7,43 +7,73 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import woowacourse.auth.domain.LoginCustomer;
 import woowacourse.auth.support.AuthenticationPrincipal;
 import woowacourse.shoppingcart.dto.OrderRequest;
+import woowacourse.shoppingcart.dto.OrderStatusResponse;
 import woowacourse.shoppingcart.domain.Orders;
+import woowacourse.shoppingcart.application.AsyncOrderService;
 import woowacourse.shoppingcart.application.OrderService;
 
 import javax.validation.Valid;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.List;
 
 @Validated
 @RestController
 @RequestMapping("/api/customers/me/orders")
 public class OrderController {
+    private static final String PREFER = "Prefer";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final OrderService orderService;
+    private final AsyncOrderService asyncOrderService;
 
-    public OrderController(final OrderService orderService) {
+    public OrderController(final OrderService orderService, final AsyncOrderService asyncOrderService) {
         this.orderService = orderService;
+        this.asyncOrderService = asyncOrderService;
     }
 
     @PostMapping
     public ResponseEntity<Void> addOrder(@AuthenticationPrincipal LoginCustomer loginCustomer,
+                                         @RequestHeader(value = PREFER, required = false) final String prefer,
                                          @RequestBody @Valid final List<OrderRequest> orderDetails) {
-        final Long orderId = orderService.addOrder(loginCustomer.getUserName(), orderDetails);
+        if (prefersAsync(prefer)) {
+            final String requestId = asyncOrderService.accept(loginCustomer.getId(), orderDetails);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/customers/me/orders/requests/" + requestId))
+                    .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                    .build();
+        }
+
+        final Long orderId = orderService.addOrder(loginCustomer.getId(), orderDetails);
 
         return ResponseEntity.created(
                 URI.create("/api/customers/me/orders/"+orderId)).build();
     }
 
+    private boolean prefersAsync(final String prefer) {
+        return prefer != null && Arrays.stream(prefer.split(","))
+                .map(String::trim)
+                .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
+
+    @GetMapping("/requests/{requestId}")
+    public ResponseEntity<OrderStatusResponse> findOrderStatus(@AuthenticationPrincipal LoginCustomer loginCustomer,
+                                                               @PathVariable final String requestId) {
+        return ResponseEntity.ok(asyncOrderService.findStatus(loginCustomer.getId(), requestId));
+    }
+
     @GetMapping("/{orderId}")
     public ResponseEntity<Orders> findOrder(@AuthenticationPrincipal LoginCustomer loginCustomer,
                                             @PathVariable final Long orderId) {
 
-        final Orders order = orderService.findOrderById(loginCustomer.getUserName(), orderId);
+        final Orders order = orderService.findOrderById(loginCustomer.getId(), orderId);
         return ResponseEntity.ok(order);
     }
 
     @GetMapping
     public ResponseEntity<List<Orders>> findOrders(@AuthenticationPrincipal LoginCustomer loginCustomer) {
-        final List<Orders> orders = orderService.findOrders(loginCustomer.getUserName());
+        final List<Orders> orders = orderService.findOrders(loginCustomer.getId());
         return ResponseEntity.ok(orders);
     }
 }
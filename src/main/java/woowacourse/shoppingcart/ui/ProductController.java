@@ -1,23 +1,32 @@
 package woowacourse.shoppingcart.ui;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import woowacourse.auth.domain.LoginCustomer;
 import woowacourse.auth.support.AuthenticationPrincipal;
 import woowacourse.shoppingcart.domain.Product;
+import woowacourse.shoppingcart.dto.ProductPage;
 import woowacourse.shoppingcart.dto.ProductResponse;
 import woowacourse.shoppingcart.dto.Request;
 import woowacourse.shoppingcart.application.ProductService;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import java.net.URI;
 import java.util.List;
 
+@Validated
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
+    private static final CacheControl ANONYMOUS_CACHE_CONTROL = CacheControl.noCache().cachePublic();
 
     private final ProductService productService;
 
@@ -26,8 +35,25 @@ public class ProductController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> products(@AuthenticationPrincipal LoginCustomer loginCustomer) {
-        return ResponseEntity.ok(productService.findProducts(loginCustomer));
+    public ResponseEntity<List<ProductResponse>> products(@AuthenticationPrincipal LoginCustomer loginCustomer,
+                                                          @RequestParam(defaultValue = "0") final Long after,
+                                                          @RequestParam(defaultValue = "20") @Min(1) @Max(100) final int size,
+                                                          final WebRequest webRequest) {
+        final String eTag = catalogETag("products", after, size);
+        if (loginCustomer.isUnauthorized() && webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+
+        final ProductPage productPage = productService.findProducts(loginCustomer, after, size);
+        final ResponseEntity.BodyBuilder response = ok(loginCustomer, eTag);
+        if (productPage.hasNext()) {
+            final URI next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", productPage.getNextCursor())
+                    .replaceQueryParam("size", size)
+                    .build().toUri();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(productPage.getProducts());
     }
 
     @PostMapping
@@ -39,8 +65,14 @@ public class ProductController {
     }
 
     @GetMapping("/{productId}")
-    public ResponseEntity<ProductResponse> product(@AuthenticationPrincipal LoginCustomer loginCustomer, @PathVariable final Long productId) {
-        return ResponseEntity.ok(productService.findProductById(loginCustomer, productId));
+    public ResponseEntity<ProductResponse> product(@AuthenticationPrincipal LoginCustomer loginCustomer, @PathVariable final Long productId,
+                                                   final WebRequest webRequest) {
+        final String eTag = catalogETag("product", productId);
+        if (loginCustomer.isUnauthorized() && webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+
+        return ok(loginCustomer, eTag).body(productService.findProductById(loginCustomer, productId));
     }
 
     @DeleteMapping("/{productId}")
@@ -48,4 +80,35 @@ public class ProductController {
         productService.deleteProductById(productId);
         return ResponseEntity.noContent().build();
     }
+
+    private String catalogETag(final String resource, final Object... keys) {
+        final StringBuilder eTag = new StringBuilder()
+                .append(resource)
+                .append('-')
+                .append(productService.getCatalogVersion());
+        for (final Object key : keys) {
+            eTag.append('-').append(key);
+        }
+        return eTag.toString();
+    }
+
+    private <T> ResponseEntity<T> notModified(final String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(ANONYMOUS_CACHE_CONTROL)
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .build();
+    }
+
+    private ResponseEntity.BodyBuilder ok(final LoginCustomer loginCustomer, final String eTag) {
+        if (loginCustomer.isUnauthorized()) {
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(ANONYMOUS_CACHE_CONTROL)
+                    .varyBy(HttpHeaders.AUTHORIZATION);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore().cachePrivate())
+                .varyBy(HttpHeaders.AUTHORIZATION);
+    }
 }
@@ -1,3 +1,7 @@
+drop table if exists order_request;
+
+drop table if exists outbox;
+
 drop table if exists orders_detail;
 
 drop table if exists orders;
@@ -37,6 +41,9 @@ create table cart_item
     primary key (id)
 ) engine=InnoDB default charset=utf8mb4;
 
+alter table cart_item
+    add constraint uk_cart_item_customer_product unique (customer_id, product_id);
+
 alter table cart_item
     add constraint fk_cart_item_to_customer
         foreign key (customer_id) references customer (id);
@@ -49,26 +56,55 @@ create table orders
 (
     id          bigint not null auto_increment,
     customer_id bigint not null,
+    total_price bigint not null,
     primary key (id)
 ) engine=InnoDB default charset=utf8mb4;
 
+create index ix_orders_customer on orders (customer_id);
+
 alter table orders
     add constraint fk_orders_to_customer
         foreign key (customer_id) references customer (id);
 
 create table orders_detail
 (
-    id         bigint  not null auto_increment,
-    orders_id  bigint  not null,
-    product_id bigint  not null,
-    quantity   integer not null,
+    id         bigint       not null auto_increment,
+    orders_id  bigint       not null,
+    product_id bigint       not null,
+    quantity   integer      not null,
+    name       varchar(255) not null,
+    price      integer      not null,
+    image_url  varchar(255),
     primary key (id)
 ) engine=InnoDB default charset=utf8mb4;
 
+create index ix_orders_detail_orders on orders_detail (orders_id);
+
 alter table orders_detail
     add constraint fk_orders_detail_to_orders
         foreign key (orders_id) references orders (id);
 
-alter table orders_detail
-    add constraint fk_orders_detail_to_product
-        foreign key (product_id) references product (id);
+create table outbox
+(
+    id             bigint       not null auto_increment,
+    aggregate_type varchar(20)  not null,
+    aggregate_id   bigint       not null,
+    event_type     varchar(40)  not null,
+    payload        mediumtext   not null,
+    created_at     timestamp    not null default current_timestamp,
+    primary key (id)
+) engine=InnoDB default charset=utf8mb4;
+
+create table order_request
+(
+    id          varchar(36)  not null,
+    customer_id bigint       not null,
+    payload     mediumtext   not null,
+    status      varchar(20)  not null,
+    orders_id   bigint,
+    message     varchar(255),
+    created_at  timestamp    not null default current_timestamp,
+    primary key (id)
+) engine=InnoDB default charset=utf8mb4;
+
+create index ix_order_request_status on order_request (status, created_at);
@@ -101,4 +101,56 @@ public class AuthAcceptanceTest extends AcceptanceTest {
         // then
         assertThat(invalidTokenResponse.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
     }
+
+    @DisplayName("인증이 선택적인 요청에 유효하지 않은 토큰을 보내면 401을 응답한다")
+    @Test
+    void productsWithWrongBearerAuth() {
+        // when
+        ExtractableResponse<Response> invalidTokenResponse = RestAssured
+                .given().log().all()
+                .auth().oauth2("invalid_token")
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/api/products")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(invalidTokenResponse.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @DisplayName("같은 토큰으로 반복해서 요청해도 인증된다")
+    @Test
+    void myInfoWithSameBearerAuthTwice() {
+        // given
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new CustomerRequest("testname", "Test1234*"))
+                .when().post("/api/customers")
+                .then().log().all()
+                .extract();
+
+        String accessToken = RestAssured
+                .given().log().all()
+                .body(new TokenRequest("testname", "Test1234*"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/api/login")
+                .then().log().all().extract().as(TokenResponse.class).getAccessToken();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            ExtractableResponse<Response> getResponse = RestAssured
+                    .given().log().all()
+                    .auth().oauth2(accessToken)
+                    .accept(MediaType.APPLICATION_JSON_VALUE)
+                    .when().get("/api/customers/me")
+                    .then().log().all()
+                    .extract();
+
+            // then
+            assertThat(getResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(getResponse.jsonPath().getString("userName")).isEqualTo("testname");
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package woowacourse.auth.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.jdbc.Sql;
+import woowacourse.auth.support.JwtTokenProvider;
+import woowacourse.auth.support.RevokedCustomers;
+import woowacourse.auth.support.VerifiedTokenCache;
+import woowacourse.shoppingcart.dao.CustomerDao;
+import woowacourse.shoppingcart.exception.InvalidCustomerException;
+import woowacourse.shoppingcart.support.CustomerCache;
+import woowacourse.shoppingcart.support.HashingExecutor;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Sql(scripts = {"classpath:schema.sql", "classpath:data.sql"})
+@Import(JwtTokenProvider.class)
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class AuthServiceTest {
+    private final JwtTokenProvider jwtTokenProvider;
+    private final CustomerDao customerDao;
+    private final HashingExecutor hashingExecutor = new HashingExecutor(1, 1);
+
+    AuthServiceTest(JdbcTemplate jdbcTemplate, JwtTokenProvider jwtTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.customerDao = new CustomerDao(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.destroy();
+    }
+
+    @DisplayName("탈퇴한 회원의 토큰은 재시작해서 폐기 목록이 비어 있어도 거부한다.")
+    @Test
+    void authenticateDeletedCustomerAfterRestart() {
+        String token = jwtTokenProvider.createToken("puterism", 1L);
+        assertThat(newAuthService().authenticate(token).getId()).isEqualTo(1L);
+
+        customerDao.deleteByName("puterism");
+
+        assertThatThrownBy(() -> newAuthService().authenticate(token))
+                .isInstanceOf(InvalidCustomerException.class);
+    }
+
+    @DisplayName("같은 이름으로 다시 가입한 회원에게 이전 회원의 토큰은 통하지 않는다.")
+    @Test
+    void authenticateTokenOfPreviousCustomer() {
+        String token = jwtTokenProvider.createToken("puterism", 1L);
+        customerDao.deleteByName("puterism");
+        customerDao.save("puterism", "password");
+
+        assertThatThrownBy(() -> newAuthService().authenticate(token))
+                .isInstanceOf(InvalidCustomerException.class);
+    }
+
+    private AuthService newAuthService() {
+        CustomerCache customerCache = new CustomerCache(customerDao, 100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+        return new AuthService(jwtTokenProvider, new VerifiedTokenCache(100), new RevokedCustomers(3_600_000),
+                customerDao, customerCache, hashingExecutor, Runnable::run);
+    }
+}
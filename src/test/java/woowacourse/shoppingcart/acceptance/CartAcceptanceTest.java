@@ -6,8 +6,12 @@ import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import woowacourse.auth.support.JwtTokenProvider;
 import woowacourse.shoppingcart.domain.Cart;
 
 import java.util.HashMap;
@@ -19,6 +23,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static woowacourse.shoppingcart.acceptance.CustomerAcceptanceTest.로그인_후_토큰_획득;
 import static woowacourse.shoppingcart.acceptance.CustomerAcceptanceTest.회원_가입;
 import static woowacourse.shoppingcart.acceptance.ProductAcceptanceTest.상품_등록되어_있음;
+import static woowacourse.shoppingcart.support.QueryCountAssertions.assertQueryCount;
+import static woowacourse.shoppingcart.support.QueryCountAssertions.queryCount;
 
 @DisplayName("장바구니 관련 기능")
 public class CartAcceptanceTest extends AcceptanceTest {
@@ -27,6 +33,9 @@ public class CartAcceptanceTest extends AcceptanceTest {
     private Long productId1;
     private Long productId2;
 
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
     @Override
     @BeforeEach
     public void setUp() {
@@ -60,6 +69,36 @@ public class CartAcceptanceTest extends AcceptanceTest {
         장바구니_아이템_목록_포함됨(response, productId1, productId2);
     }
 
+    @DisplayName("고객 id가 담기지 않은 이전 토큰으로도 장바구니 아이템 목록을 조회한다")
+    @Test
+    void getCartItemsWithLegacyToken() {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        장바구니_아이템_추가되어_있음(productId1, accessToken);
+        String legacyAccessToken = jwtTokenProvider.createToken(USER, null);
+
+        ExtractableResponse<Response> response = 장바구니_아이템_목록_조회_요청(legacyAccessToken);
+
+        장바구니_아이템_목록_응답됨(response);
+        장바구니_아이템_목록_포함됨(response, productId1);
+    }
+
+    @DisplayName("장바구니 아이템 수와 관계없이 목록 조회 쿼리 수는 일정하다")
+    @Test
+    void getCartItemsWithConstantQueryCount() {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        장바구니_아이템_추가되어_있음(productId1, accessToken);
+        long singleItemQueryCount = queryCount(장바구니_아이템_목록_조회_요청(accessToken));
+
+        장바구니_아이템_추가되어_있음(productId2, accessToken);
+        for (int i = 0; i < 10; i++) {
+            Long productId = 상품_등록되어_있음("상품" + i, 1_000, "http://example.com/" + i + ".jpg");
+            장바구니_아이템_추가되어_있음(productId, accessToken);
+        }
+        ExtractableResponse<Response> response = 장바구니_아이템_목록_조회_요청(accessToken);
+
+        assertQueryCount(response).isEqualTo(singleItemQueryCount).isLessThanOrEqualTo(2);
+    }
+
     @DisplayName("장바구니 삭제")
     @Test
     void deleteCartItem() {
@@ -71,6 +110,164 @@ public class CartAcceptanceTest extends AcceptanceTest {
         장바구니_삭제됨(response);
     }
 
+    @DisplayName("이미 담긴 상품을 다시 추가하면 같은 장바구니 아이템을 반환한다")
+    @Test
+    void addDuplicateCartItem() {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        Long cartId = 장바구니_아이템_추가되어_있음(productId1, accessToken);
+
+        Long duplicateCartId = 장바구니_아이템_추가되어_있음(productId1, accessToken);
+
+        assertThat(duplicateCartId).isEqualTo(cartId);
+    }
+
+    @DisplayName("장바구니 아이템 수량 증감")
+    @Test
+    void increaseQuantity() {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        Long cartId = 장바구니_아이템_추가되어_있음(productId1, accessToken);
+
+        ExtractableResponse<Response> response = 장바구니_수량_증감_요청(cartId, 2, accessToken);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(장바구니_아이템_목록_조회_요청(accessToken).jsonPath().getInt("quantity[0]")).isEqualTo(3);
+    }
+
+    @DisplayName("조회한 장바구니를 변경하면 다음 조회에 변경 내용이 반영된다")
+    @Test
+    void getCartItemsAfterUpdate() {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        Long cartId = 장바구니_아이템_추가되어_있음(productId1, accessToken);
+        장바구니_아이템_목록_조회_요청(accessToken);
+
+        장바구니_수량_증감_요청(cartId, 2, accessToken);
+        장바구니_아이템_추가되어_있음(productId2, accessToken);
+        ExtractableResponse<Response> response = 장바구니_아이템_목록_조회_요청(accessToken);
+
+        장바구니_아이템_목록_포함됨(response, productId1, productId2);
+        assertThat(response.jsonPath().getList("quantity", Integer.class)).containsExactlyInAnyOrder(3, 1);
+    }
+
+    @DisplayName("변경이 없으면 장바구니를 다시 조회할 때 쿼리를 실행하지 않는다")
+    @Test
+    void getCartItemsFromCache() {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        장바구니_아이템_추가되어_있음(productId1, accessToken);
+        장바구니_아이템_목록_조회_요청(accessToken);
+
+        ExtractableResponse<Response> response = 장바구니_아이템_목록_조회_요청(accessToken);
+
+        장바구니_아이템_목록_포함됨(response, productId1);
+        assertQueryCount(response).isZero();
+    }
+
+    @DisplayName("수량이 1 미만이 되도록 증감하면 실패한다")
+    @Test
+    void increaseQuantityBelowOne() {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        Long cartId = 장바구니_아이템_추가되어_있음(productId1, accessToken);
+
+        ExtractableResponse<Response> response = 장바구니_수량_증감_요청(cartId, -1, accessToken);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("증감값이 0이거나 허용 범위를 벗어나면 수량을 바꾸지 않고 실패한다")
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1_001, -1_001, Integer.MAX_VALUE})
+    void increaseQuantityWithInvalidDelta(int delta) {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        Long cartId = 장바구니_아이템_추가되어_있음(productId1, accessToken);
+
+        ExtractableResponse<Response> response = 장바구니_수량_증감_요청(cartId, delta, accessToken);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(장바구니_아이템_목록_조회_요청(accessToken).jsonPath().getInt("quantity[0]")).isEqualTo(1);
+    }
+
+    public static ExtractableResponse<Response> 장바구니_수량_증감_요청(Long cartId, int delta, String accessToken) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(Map.of("delta", delta))
+                .when().patch("/api/customers/me/carts/{cartId}/quantity", cartId)
+                .then().log().all()
+                .extract();
+    }
+
+    @DisplayName("장바구니 일괄 수량 변경")
+    @Test
+    void updateQuantities() {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        Long cartId1 = 장바구니_아이템_추가되어_있음(productId1, accessToken);
+        Long cartId2 = 장바구니_아이템_추가되어_있음(productId2, accessToken);
+
+        ExtractableResponse<Response> response = 장바구니_일괄_수량_변경_요청(accessToken,
+                Map.of("cartId", cartId1, "quantity", 3),
+                Map.of("cartId", cartId2, "quantity", 4));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        // 소유 확인 COUNT, 수량 UPDATE 배치, outbox INSERT 배치
+        assertQueryCount(response).isLessThanOrEqualTo(3);
+        List<Integer> quantities = 장바구니_아이템_목록_조회_요청(accessToken).jsonPath().getList("quantity", Integer.class);
+        assertThat(quantities).containsExactlyInAnyOrder(3, 4);
+    }
+
+    @DisplayName("다른 회원의 장바구니가 포함되면 일괄 수량 변경이 전부 실패한다")
+    @Test
+    void updateQuantitiesWithOtherCustomerCart() {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        Long cartId = 장바구니_아이템_추가되어_있음(productId1, accessToken);
+        회원_가입("othername", PASSWORD);
+        String otherAccessToken = 로그인_후_토큰_획득("othername", PASSWORD);
+        Long otherCartId = 장바구니_아이템_추가되어_있음(productId1, otherAccessToken);
+
+        ExtractableResponse<Response> response = 장바구니_일괄_수량_변경_요청(accessToken,
+                Map.of("cartId", cartId, "quantity", 3),
+                Map.of("cartId", otherCartId, "quantity", 4));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(장바구니_아이템_목록_조회_요청(accessToken).jsonPath().getInt("quantity[0]")).isEqualTo(1);
+    }
+
+    @DisplayName("장바구니 일괄 삭제")
+    @Test
+    void deleteCartItems() {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        Long cartId1 = 장바구니_아이템_추가되어_있음(productId1, accessToken);
+        Long cartId2 = 장바구니_아이템_추가되어_있음(productId2, accessToken);
+
+        ExtractableResponse<Response> response = 장바구니_일괄_삭제_요청(accessToken, cartId1, cartId2);
+
+        장바구니_삭제됨(response);
+        // 장바구니 DELETE, outbox INSERT 배치
+        assertQueryCount(response).isLessThanOrEqualTo(2);
+        assertThat(장바구니_아이템_목록_조회_요청(accessToken).jsonPath().getList(".")).isEmpty();
+    }
+
+    @SafeVarargs
+    public static ExtractableResponse<Response> 장바구니_일괄_수량_변경_요청(String accessToken, Map<String, Object>... quantities) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(List.of(quantities))
+                .when().patch("/api/customers/me/carts")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 장바구니_일괄_삭제_요청(String accessToken, Long... cartIds) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .queryParam("cartIds", List.of(cartIds))
+                .when().delete("/api/customers/me/carts")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 장바구니_아이템_추가_요청(Long productId, String accessToken) {
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("id", productId);
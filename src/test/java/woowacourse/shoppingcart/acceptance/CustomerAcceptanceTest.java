@@ -31,6 +31,16 @@ public class CustomerAcceptanceTest extends AcceptanceTest {
         assertThat(createResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
     }
 
+    @Test
+    void 이름_중복_확인_후_회원_가입() {
+        assertThat(이름_중복_확인("testname")).isFalse();
+
+        회원_가입("testname", "Test1234*");
+
+        assertThat(이름_중복_확인("testname")).isTrue();
+        assertThat(이름_중복_확인("TestName")).isTrue();
+    }
+
     @Test
     void 회원가입_시_누락된_필드값_존재() {
         ExtractableResponse<Response> createResponse = 회원_가입("testname", null);
@@ -144,6 +154,31 @@ public class CustomerAcceptanceTest extends AcceptanceTest {
         assertThat(getResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
     }
 
+    @Test
+    void 회원_탈퇴_후_장바구니_조회() {
+        // given
+        회원_가입("testname", "Test1234*");
+        String accessToken = 로그인_후_토큰_획득("testname", "Test1234*");
+        RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .when().delete("/api/customers/me")
+                .then().log().all()
+                .extract();
+
+        // when
+        ExtractableResponse<Response> getResponse = RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/api/customers/me/carts")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(getResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     @Test
     void 토큰을_발급받지_않고_탈퇴() {
         // when
@@ -177,4 +212,13 @@ public class CustomerAcceptanceTest extends AcceptanceTest {
                 .then().log().all()
                 .extract();
     }
+
+    private boolean 이름_중복_확인(String userName) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("userName", userName)
+                .when().get("/api/customers/exists")
+                .then().log().all()
+                .extract().jsonPath().getBoolean("isDuplicate");
+    }
 }
@@ -0,0 +1,58 @@
+package woowacourse.shoppingcart.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.web.server.LocalManagementPort;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static woowacourse.shoppingcart.acceptance.CustomerAcceptanceTest.로그인_후_토큰_획득;
+import static woowacourse.shoppingcart.acceptance.CustomerAcceptanceTest.회원_가입;
+import static woowacourse.shoppingcart.acceptance.ProductAcceptanceTest.상품_등록되어_있음;
+
+@DisplayName("메트릭 관련 기능")
+public class MetricsAcceptanceTest extends AcceptanceTest {
+    @LocalManagementPort
+    int managementPort;
+
+    @DisplayName("엔드포인트, DAO, JWT, 커넥션 풀, 캐시, 비동기 주문 큐 메트릭을 관리 포트에서 Prometheus 형식으로 노출한다")
+    @Test
+    void prometheus() {
+        회원_가입("testname", "Test1234*");
+        로그인_후_토큰_획득("testname", "Test1234*");
+        상품_등록되어_있음("치킨", 10_000, "http://example.com/chicken.jpg");
+
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .port(managementPort)
+                .when().get("/actuator/prometheus")
+                .then().log().all()
+                .extract();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.asString()).contains(
+                "http_server_requests_seconds_bucket",
+                "dao_method_seconds_bucket{class=\"ProductDao\",exception=\"none\",method=\"save\"",
+                "jwt_operation_seconds_count{class=\"JwtTokenProvider\",exception=\"none\",method=\"createToken\"",
+                "hikaricp_connections_acquire_seconds",
+                "hikaricp_connections_timeout_total",
+                "cache_gets_total{cache=\"product\"",
+                "order_async_queue_depth",
+                "order_async_lag_seconds_count{result=\"completed\"");
+    }
+
+    @DisplayName("서비스 포트에서는 액추에이터 엔드포인트를 노출하지 않는다")
+    @Test
+    void actuatorOnServerPort() {
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .when().get("/actuator/prometheus")
+                .then().log().all()
+                .extract();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+}
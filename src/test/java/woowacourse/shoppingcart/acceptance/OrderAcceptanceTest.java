@@ -6,10 +6,12 @@ import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import woowacourse.shoppingcart.dto.OrderRequest;
 import woowacourse.shoppingcart.domain.Orders;
+import woowacourse.shoppingcart.support.InMemoryOutboxSink;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -22,20 +24,27 @@ import static woowacourse.shoppingcart.acceptance.CartAcceptanceTest.장바구
 import static woowacourse.shoppingcart.acceptance.CustomerAcceptanceTest.로그인_후_토큰_획득;
 import static woowacourse.shoppingcart.acceptance.CustomerAcceptanceTest.회원_가입;
 import static woowacourse.shoppingcart.acceptance.ProductAcceptanceTest.상품_등록되어_있음;
+import static woowacourse.shoppingcart.acceptance.ProductAcceptanceTest.상품_삭제_요청;
+import static woowacourse.shoppingcart.acceptance.ProductAcceptanceTest.상품_삭제됨;
+import static woowacourse.shoppingcart.support.QueryCountAssertions.assertQueryCount;
 
 @DisplayName("주문 관련 기능")
 public class OrderAcceptanceTest extends AcceptanceTest {
     private static final String USER = "testname";
     private static final String PASSWORD = "Test1234*";
+    private Long productId1;
     private Long cartId1;
     private Long cartId2;
 
+    @Autowired
+    private InMemoryOutboxSink outboxSink;
+
     @Override
     @BeforeEach
     public void setUp() {
         super.setUp();
 
-        Long productId1 = 상품_등록되어_있음("치킨", 10_000, "http://example.com/chicken.jpg");
+        productId1 = 상품_등록되어_있음("치킨", 10_000, "http://example.com/chicken.jpg");
         Long productId2 = 상품_등록되어_있음("맥주", 20_000, "http://example.com/beer.jpg");
 
         회원_가입(USER, PASSWORD);
@@ -58,6 +67,42 @@ public class OrderAcceptanceTest extends AcceptanceTest {
         주문하기_성공함(response);
     }
 
+    @DisplayName("주문하면 주문 이벤트가 아웃박스를 거쳐 발행된다")
+    @Test
+    void addOrderPublishesEvent() throws InterruptedException {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        Long orderId = 주문하기_요청_성공되어_있음(Collections.singletonList(new OrderRequest(cartId1, 2)), accessToken);
+
+        for (int i = 0; i < 50 && !주문_이벤트_발행됨(orderId); i++) {
+            Thread.sleep(100);
+        }
+
+        assertThat(주문_이벤트_발행됨(orderId)).isTrue();
+    }
+
+    private boolean 주문_이벤트_발행됨(Long orderId) {
+        return outboxSink.getEvents().stream()
+                .anyMatch(event -> "ORDER_PLACED".equals(event.getEventType()) && orderId.equals(event.getAggregateId()));
+    }
+
+    @DisplayName("상품이 삭제되어도 주문 내역은 주문 당시의 이름, 가격, 합계로 조회된다")
+    @Test
+    void getOrderAfterProductDeleted() {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        Long orderId = 주문하기_요청_성공되어_있음(Arrays.asList(
+                new OrderRequest(cartId1, 2),
+                new OrderRequest(cartId2, 4)
+        ), accessToken);
+
+        상품_삭제됨(상품_삭제_요청(productId1));
+        ExtractableResponse<Response> response = 주문_단일_조회_요청(orderId, accessToken);
+
+        주문_조회_응답됨(response);
+        assertThat(response.jsonPath().getLong("totalPrice")).isEqualTo(100_000L);
+        assertThat(response.jsonPath().getList("orderDetails.name")).containsExactly("치킨", "맥주");
+        assertThat(response.jsonPath().getList("orderDetails.price", Integer.class)).containsExactly(10_000, 20_000);
+    }
+
     @DisplayName("주문 내역 조회")
     @Test
     void getOrders() {
@@ -69,6 +114,7 @@ public class OrderAcceptanceTest extends AcceptanceTest {
 
         주문_조회_응답됨(response);
         주문_내역_포함됨(response, orderId1, orderId2);
+        assertQueryCount(response).isLessThanOrEqualTo(1);
     }
 
     @DisplayName("주문 단일 조회")
@@ -87,6 +133,68 @@ public class OrderAcceptanceTest extends AcceptanceTest {
         주문_조회됨(response, orderId);
     }
 
+    @DisplayName("비동기 주문하기")
+    @Test
+    void addOrderAsync() throws InterruptedException {
+        String accessToken = 로그인_후_토큰_획득(USER, PASSWORD);
+        ExtractableResponse<Response> response = 비동기_주문하기_요청(Arrays.asList(
+                new OrderRequest(cartId1, 2),
+                new OrderRequest(cartId2, 4)
+        ), accessToken);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.ACCEPTED.value());
+        assertThat(response.header("Preference-Applied")).isEqualTo("respond-async");
+
+        ExtractableResponse<Response> status = 주문_처리_완료_대기(response.header("Location"), accessToken);
+        assertThat(status.jsonPath().getString("status")).isEqualTo("COMPLETED");
+
+        Long orderId = status.jsonPath().getLong("orderId");
+        ExtractableResponse<Response> orderResponse = 주문_단일_조회_요청(orderId, accessToken);
+        주문_조회_응답됨(orderResponse);
+        주문_조회됨(orderResponse, orderId);
+    }
+
+    @DisplayName("다른 회원의 장바구니로 비동기 주문하면 접수되지 않는다")
+    @Test
+    void addOrderAsyncWithOtherCustomerCart() {
+        회원_가입("othername", PASSWORD);
+        String otherAccessToken = 로그인_후_토큰_획득("othername", PASSWORD);
+
+        ExtractableResponse<Response> response = 비동기_주문하기_요청(
+                Collections.singletonList(new OrderRequest(cartId1, 2)), otherAccessToken);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    public static ExtractableResponse<Response> 비동기_주문하기_요청(List<OrderRequest> orderRequests, String accessToken) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(orderRequests)
+                .when().post("/api/customers/me/orders")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 주문_처리_완료_대기(String statusUrl, String accessToken)
+            throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            ExtractableResponse<Response> response = RestAssured
+                    .given().log().all()
+                    .auth().oauth2(accessToken)
+                    .when().get(statusUrl)
+                    .then().log().all()
+                    .extract();
+            if (!"PENDING".equals(response.jsonPath().getString("status"))) {
+                return response;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("주문이 처리되지 않았습니다.");
+    }
+
     public static ExtractableResponse<Response> 주문하기_요청(List<OrderRequest> orderRequests, String accessToken) {
         return RestAssured
                 .given().log().all()
@@ -5,6 +5,7 @@ import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import woowacourse.shoppingcart.domain.Product;
@@ -17,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static woowacourse.shoppingcart.acceptance.CartAcceptanceTest.장바구니_아이템_추가_요청;
 import static woowacourse.shoppingcart.acceptance.CustomerAcceptanceTest.로그인_후_토큰_획득;
 import static woowacourse.shoppingcart.acceptance.CustomerAcceptanceTest.회원_가입;
+import static woowacourse.shoppingcart.support.QueryCountAssertions.assertQueryCount;
 
 @DisplayName("상품 관련 기능")
 public class ProductAcceptanceTest extends AcceptanceTest {
@@ -63,6 +65,25 @@ public class ProductAcceptanceTest extends AcceptanceTest {
         상품_목록_포함됨(productId1, productId2, response);
     }
 
+    @DisplayName("커서 기반으로 상품 목록을 나누어 조회한다")
+    @Test
+    void getProductsByCursor() {
+        Long productId1 = 상품_등록되어_있음("치킨", 10_000, "http://example.com/chicken.jpg");
+        Long productId2 = 상품_등록되어_있음("맥주", 20_000, "http://example.com/beer.jpg");
+        Long productId3 = 상품_등록되어_있음("피자", 30_000, "http://example.com/pizza.jpg");
+
+        ExtractableResponse<Response> firstPage = 상품_목록_조회_요청(0L, 2);
+        ExtractableResponse<Response> lastPage = 상품_목록_조회_요청(productId2, 2);
+
+        조회_응답됨(firstPage);
+        assertThat(상품_아이디_목록(firstPage)).containsExactly(productId1, productId2);
+        assertThat(firstPage.header(HttpHeaders.LINK)).contains("after=" + productId2, "size=2", "rel=\"next\"");
+
+        조회_응답됨(lastPage);
+        assertThat(상품_아이디_목록(lastPage)).containsExactly(productId3);
+        assertThat(lastPage.header(HttpHeaders.LINK)).isNull();
+    }
+
     @DisplayName("로그인하지 않고 상품을 조회한다")
     @Test
     void getProduct() {
@@ -97,6 +118,57 @@ public class ProductAcceptanceTest extends AcceptanceTest {
         상품_조회됨(response, productId);
     }
 
+    @DisplayName("한 번 조회한 상품은 DB를 거치지 않고 캐시에서 조회한다")
+    @Test
+    void getProductFromCache() {
+        Long productId = 상품_등록되어_있음("치킨", 10_000, "http://example.com/chicken.jpg");
+        상품_조회_요청(productId);
+
+        ExtractableResponse<Response> response = 상품_조회_요청(productId);
+
+        조회_응답됨(response);
+        assertQueryCount(response).isZero();
+    }
+
+    @DisplayName("삭제한 상품은 캐시에서도 제거된다")
+    @Test
+    void getDeletedProduct() {
+        Long productId = 상품_등록되어_있음("치킨", 10_000, "http://example.com/chicken.jpg");
+        상품_조회_요청(productId);
+        상품_삭제_요청(productId);
+
+        ExtractableResponse<Response> response = 상품_조회_요청(productId);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("상품 목록이 바뀌지 않았으면 ETag로 조건부 조회 시 DB 조회 없이 304를 응답한다")
+    @Test
+    void getProductsNotModified() {
+        상품_등록되어_있음("치킨", 10_000, "http://example.com/chicken.jpg");
+        String eTag = 상품_목록_조회_요청().header(HttpHeaders.ETAG);
+
+        ExtractableResponse<Response> response = 상품_목록_조건부_조회_요청(eTag);
+
+        assertThat(eTag).isNotBlank();
+        변경_없음_응답됨(response);
+        assertQueryCount(response).isZero();
+    }
+
+    @DisplayName("상품이 추가되면 이전 ETag로 조건부 조회 시 새 목록을 응답한다")
+    @Test
+    void getProductsModified() {
+        Long productId1 = 상품_등록되어_있음("치킨", 10_000, "http://example.com/chicken.jpg");
+        String eTag = 상품_목록_조회_요청().header(HttpHeaders.ETAG);
+        Long productId2 = 상품_등록되어_있음("맥주", 20_000, "http://example.com/beer.jpg");
+
+        ExtractableResponse<Response> response = 상품_목록_조건부_조회_요청(eTag);
+
+        조회_응답됨(response);
+        assertThat(response.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        상품_목록_포함됨(productId1, productId2, response);
+    }
+
     @DisplayName("상품을 삭제한다")
     @Test
     void deleteProduct() {
@@ -128,6 +200,27 @@ public class ProductAcceptanceTest extends AcceptanceTest {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 상품_목록_조건부_조회_요청(String eTag) {
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get("/api/products")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 상품_목록_조회_요청(Long after, int size) {
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("after", after)
+                .queryParam("size", size)
+                .when().get("/api/products")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 상품_조회_요청(Long productId) {
         return RestAssured
                 .given().log().all()
@@ -160,11 +253,18 @@ public class ProductAcceptanceTest extends AcceptanceTest {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
     }
 
+    public static void 변경_없음_응답됨(ExtractableResponse<Response> response) {
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
     public static void 상품_목록_포함됨(Long productId1, Long productId2, ExtractableResponse<Response> response) {
-        List<Long> resultProductIds = response.jsonPath().getList(".", ProductResponse.class).stream()
+        assertThat(상품_아이디_목록(response)).contains(productId1, productId2);
+    }
+
+    private static List<Long> 상품_아이디_목록(ExtractableResponse<Response> response) {
+        return response.jsonPath().getList(".", ProductResponse.class).stream()
                 .map(ProductResponse::getId)
                 .collect(Collectors.toList());
-        assertThat(resultProductIds).contains(productId1, productId2);
     }
 
     public static void 상품_조회됨(ExtractableResponse<Response> response, Long productId) {
@@ -0,0 +1,149 @@
+package woowacourse.shoppingcart.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.jdbc.Sql;
+import woowacourse.shoppingcart.dao.CartItemDao;
+import woowacourse.shoppingcart.dao.OrderRequestDao;
+import woowacourse.shoppingcart.dao.OrdersDao;
+import woowacourse.shoppingcart.dao.ProductDao;
+import woowacourse.shoppingcart.domain.Product;
+import woowacourse.shoppingcart.dto.OrderRequest;
+import woowacourse.shoppingcart.dto.OrderStatusResponse;
+import woowacourse.shoppingcart.dto.OrderStatusResponse.Status;
+import woowacourse.shoppingcart.exception.ServiceUnavailableException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = {"classpath:schema.sql", "classpath:data.sql"})
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class AsyncOrderServiceTest {
+    private static final Long CUSTOMER_ID = 1L;
+
+    private final OrderService orderService;
+    private final OrderRequestDao orderRequestDao;
+    private final OrdersDao ordersDao;
+    private final CartItemDao cartItemDao;
+    private final ProductDao productDao;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private Long cartId1;
+    private Long cartId2;
+
+    AsyncOrderServiceTest(OrderService orderService, OrderRequestDao orderRequestDao, OrdersDao ordersDao,
+                          CartItemDao cartItemDao, ProductDao productDao, ObjectMapper objectMapper,
+                          JdbcTemplate jdbcTemplate) {
+        this.orderService = orderService;
+        this.orderRequestDao = orderRequestDao;
+        this.ordersDao = ordersDao;
+        this.cartItemDao = cartItemDao;
+        this.productDao = productDao;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @BeforeEach
+    void setUp() {
+        final Long productId1 = productDao.save(new Product("banana", 1_000, "woowa1.com"));
+        final Long productId2 = productDao.save(new Product("apple", 2_000, "woowa2.com"));
+        cartId1 = cartItemDao.addCartItem(CUSTOMER_ID, productId1);
+        cartId2 = cartItemDao.addCartItem(CUSTOMER_ID, productId2);
+    }
+
+    @DisplayName("여러 주문을 한 트랜잭션에서 기록하고 요청을 완료 상태로 바꾼다.")
+    @Test
+    void addOrders() throws Exception {
+        // given
+        final PendingOrder first = pendingOrder("request-1", new OrderRequest(cartId1, 2));
+        final PendingOrder second = pendingOrder("request-2", new OrderRequest(cartId2, 3));
+
+        // when
+        final List<Long> ordersIds = orderService.addOrders(List.of(first, second));
+
+        // then
+        assertThat(ordersIds).hasSize(2);
+        assertThat(ordersDao.findOrderIdsByCustomerId(CUSTOMER_ID)).containsExactlyInAnyOrderElementsOf(ordersIds);
+        assertThat(cartItemDao.findCartsByCustomerId(CUSTOMER_ID)).isEmpty();
+        assertThat(statusOf("request-1").getOrderId()).isEqualTo(ordersIds.get(0));
+        assertThat(statusOf("request-2").getOrderId()).isEqualTo(ordersIds.get(1));
+    }
+
+    @DisplayName("묶음 기록이 실패하면 하나씩 다시 기록해서 잘못된 주문만 실패 처리한다.")
+    @Test
+    void fallbackOneByOne() throws InterruptedException {
+        // given
+        final AsyncOrderService asyncOrderService = newAsyncOrderService(10);
+        final String first = asyncOrderService.accept(CUSTOMER_ID, List.of(new OrderRequest(cartId1, 2)));
+        final String second = asyncOrderService.accept(CUSTOMER_ID, List.of(new OrderRequest(cartId1, 3)));
+
+        // when
+        assertThat(asyncOrderService.persistNextBatch(0)).isTrue();
+
+        // then
+        final OrderStatusResponse completed = asyncOrderService.findStatus(CUSTOMER_ID, first);
+        final OrderStatusResponse failed = asyncOrderService.findStatus(CUSTOMER_ID, second);
+        assertThat(completed.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(ordersDao.findOrderIdsByCustomerId(CUSTOMER_ID)).containsExactly(completed.getOrderId());
+        assertThat(failed.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(failed.getMessage()).isNotBlank();
+    }
+
+    @DisplayName("큐가 가득 차면 요청을 기록하지 않고 거절한다.")
+    @Test
+    void rejectWhenQueueIsFull() {
+        // given
+        final AsyncOrderService asyncOrderService = newAsyncOrderService(1);
+        asyncOrderService.accept(CUSTOMER_ID, List.of(new OrderRequest(cartId1, 2)));
+
+        // when // then
+        assertThatThrownBy(() -> asyncOrderService.accept(CUSTOMER_ID, List.of(new OrderRequest(cartId2, 3))))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_request", Integer.class)).isEqualTo(1);
+    }
+
+    @DisplayName("처리되지 않은 채 남은 요청은 다시 기동할 때 큐에 넣어 처리한다.")
+    @Test
+    void recoverPendingRequests() throws Exception {
+        // given
+        final String requestId = newAsyncOrderService(10)
+                .accept(CUSTOMER_ID, List.of(new OrderRequest(cartId1, 2), new OrderRequest(cartId2, 3)));
+        final AsyncOrderService restarted = newAsyncOrderService(10);
+
+        // when
+        restarted.recover();
+        assertThat(restarted.persistNextBatch(0)).isTrue();
+
+        // then
+        final OrderStatusResponse status = restarted.findStatus(CUSTOMER_ID, requestId);
+        assertThat(status.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(ordersDao.findOrderIdsByCustomerId(CUSTOMER_ID)).containsExactly(status.getOrderId());
+    }
+
+    private AsyncOrderService newAsyncOrderService(int queueCapacity) {
+        return new AsyncOrderService(orderService, orderRequestDao, objectMapper, new SimpleMeterRegistry(),
+                1, queueCapacity, 50);
+    }
+
+    private PendingOrder pendingOrder(String requestId, OrderRequest... orderRequests) throws Exception {
+        orderRequestDao.save(requestId, CUSTOMER_ID, objectMapper.writeValueAsString(List.of(orderRequests)));
+        return new PendingOrder(requestId, CUSTOMER_ID, List.of(orderRequests), System.nanoTime());
+    }
+
+    private OrderStatusResponse statusOf(String requestId) {
+        final OrderStatusResponse status = orderRequestDao.findStatus(CUSTOMER_ID, requestId).orElseThrow();
+        assertThat(status.getStatus()).isEqualTo(Status.COMPLETED);
+        return status;
+    }
+}
@@ -9,11 +9,18 @@ import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.context.jdbc.Sql;
+import woowacourse.shoppingcart.domain.Cart;
 import woowacourse.shoppingcart.domain.Product;
+import woowacourse.shoppingcart.dto.CartQuantityRequest;
+import woowacourse.shoppingcart.exception.InvalidCartItemException;
+import woowacourse.shoppingcart.exception.NotInCustomerCartItemException;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @JdbcTest
 @AutoConfigureTestDatabase(replace = Replace.NONE)
@@ -45,7 +52,7 @@ public class CartItemDaoTest {
 
         // given
         final Long customerId = 1L;
-        final Long productId = 1L;
+        final Long productId = productDao.save(new Product("grape", 3_000, "woowa3.com"));
 
         // when
         final Long cartId = cartItemDao.addCartItem(customerId, productId);
@@ -54,32 +61,57 @@ public class CartItemDaoTest {
         assertThat(cartId).isEqualTo(3L);
     }
 
-    @DisplayName("커스터머 아이디를 넣으면, 해당 커스터머가 구매한 상품의 아이디 목록을 가져온다.")
+    @DisplayName("이미 담긴 상품을 다시 담으면, 새 행을 만들지 않고 기존 카트 아이디를 반환한다.")
     @Test
-    void findProductIdsByCustomerId() {
+    void addDuplicateCartItem() {
 
-        // given
-        final Long customerId = 1L;
+        // when
+        final Long cartId = cartItemDao.addCartItem(1L, 1L);
+
+        // then
+        assertThat(cartId).isEqualTo(1L);
+        assertThat(cartItemDao.findCartsByCustomerId(1L)).hasSize(2);
+    }
+
+    @DisplayName("수량 변화량을 넣으면, 현재 수량에 한 번의 UPDATE로 더한다.")
+    @Test
+    void increaseQuantity() {
 
         // when
-        final List<Long> productsIds = cartItemDao.findProductIdsByCustomerId(customerId);
+        cartItemDao.increaseQuantity(1L, 1L, 3);
+        cartItemDao.increaseQuantity(1L, 1L, -2);
 
         // then
-        assertThat(productsIds).containsExactly(1L, 2L);
+        final Integer quantity = jdbcTemplate.queryForObject(
+                "SELECT quantity FROM cart_item WHERE id = ?", Integer.class, 1L);
+        assertThat(quantity).isEqualTo(2);
     }
 
-    @DisplayName("Customer Id를 넣으면, 해당 장바구니 Id들을 가져온다.")
+    @DisplayName("수량이 1 미만이 되거나 다른 고객의 장바구니면, 예외가 발생한다.")
+    @Test
+    void increaseQuantityWithInvalidDelta() {
+        assertThatThrownBy(() -> cartItemDao.increaseQuantity(1L, 1L, -1))
+                .isInstanceOf(InvalidCartItemException.class);
+        assertThatThrownBy(() -> cartItemDao.increaseQuantity(2L, 1L, 1))
+                .isInstanceOf(InvalidCartItemException.class);
+    }
+
+    @DisplayName("Customer Id를 넣으면, 상품 정보가 포함된 장바구니 목록을 한 번에 가져온다.")
     @Test
-    void findIdsByCustomerId() {
+    void findCartsByCustomerId() {
 
         // given
         final Long customerId = 1L;
 
         // when
-        final List<Long> cartIds = cartItemDao.findIdsByCustomerId(customerId);
+        final List<Cart> carts = cartItemDao.findCartsByCustomerId(customerId);
 
         // then
-        assertThat(cartIds).containsExactly(1L, 2L);
+        assertThat(carts).extracting(Cart::getId, Cart::getProductId, Cart::getName, Cart::getPrice, Cart::getQuantity)
+                .containsExactly(
+                        tuple(1L, 1L, "banana", 1_000, 1),
+                        tuple(2L, 2L, "apple", 2_000, 1)
+                );
     }
 
     @DisplayName("Customer Id를 넣으면, 해당 장바구니 Id들을 가져온다.")
@@ -90,12 +122,110 @@ public class CartItemDaoTest {
         final Long cartId = 1L;
 
         // when
-        cartItemDao.deleteCartItem(cartId);
+        cartItemDao.deleteCartItem(1L, cartId);
+
+        // then
+        final Long customerId = 1L;
+        assertThat(cartItemDao.findCartsByCustomerId(customerId))
+                .extracting(Cart::getProductId)
+                .containsExactly(2L);
+    }
+
+    @DisplayName("장바구니 Id 목록을 넣으면, 장바구니 Id별 상품 정보를 한 번에 가져온다.")
+    @Test
+    void findProductsByIds() {
+
+        // given
+        final List<Long> cartIds = List.of(1L, 2L);
+
+        // when
+        final Map<Long, Product> productsByCartId = cartItemDao.findProductsByIds(cartIds);
+
+        // then
+        assertThat(productsByCartId.get(1L))
+                .extracting(Product::getId, Product::getName, Product::getPrice, Product::getImageUrl)
+                .containsExactly(1L, "banana", 1_000, "woowa1.com");
+        assertThat(productsByCartId.get(2L))
+                .extracting(Product::getId, Product::getName)
+                .containsExactly(2L, "apple");
+    }
+
+    @DisplayName("존재하지 않는 장바구니 Id가 포함되어 있으면, 예외가 발생한다.")
+    @Test
+    void findProductsByIdsWithInvalidCartId() {
+
+        // given
+        final List<Long> cartIds = List.of(1L, 99L);
+
+        // when // then
+        assertThatThrownBy(() -> cartItemDao.findProductsByIds(cartIds))
+                .isInstanceOf(InvalidCartItemException.class);
+    }
+
+    @DisplayName("장바구니 Id 목록을 넣으면, 해당 장바구니들을 한 번에 삭제한다.")
+    @Test
+    void deleteCartItems() {
+
+        // given
+        final List<Long> cartIds = List.of(1L, 2L);
+
+        // when
+        cartItemDao.deleteCartItems(cartIds);
 
         // then
         final Long customerId = 1L;
-        final List<Long> productIds = cartItemDao.findProductIdsByCustomerId(customerId);
+        assertThat(cartItemDao.findCartsByCustomerId(customerId)).isEmpty();
+    }
+
+    @DisplayName("다른 고객의 장바구니 Id로 삭제하면, 예외가 발생한다.")
+    @Test
+    void deleteCartItemOfOtherCustomer() {
+        assertThatThrownBy(() -> cartItemDao.deleteCartItem(2L, 1L))
+                .isInstanceOf(NotInCustomerCartItemException.class);
+    }
+
+    @DisplayName("고객 Id와 장바구니 Id 목록을 넣으면, 해당 고객의 장바구니만 한 번에 삭제하고 삭제된 수를 반환한다.")
+    @Test
+    void deleteCustomerCartItems() {
+
+        // when
+        final int deleted = cartItemDao.deleteCartItems(1L, List.of(1L, 2L, 3L));
 
-        assertThat(productIds).containsExactly(2L);
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(cartItemDao.findCartsByCustomerId(1L)).isEmpty();
+    }
+
+    @DisplayName("고객 Id와 장바구니 Id 목록을 넣으면, 해당 고객 소유의 장바구니 수를 센다.")
+    @Test
+    void countByCustomerIdAndIds() {
+        assertThat(cartItemDao.countByCustomerIdAndIds(1L, List.of(1L, 2L, 3L))).isEqualTo(2);
+        assertThat(cartItemDao.countByCustomerIdAndIds(2L, List.of(1L, 2L))).isZero();
+    }
+
+    @DisplayName("다른 고객의 장바구니 수량을 변경하면, 변경하지 않고 예외가 발생한다.")
+    @Test
+    void updateProductQuantityOfOtherCustomer() {
+        assertThatThrownBy(() -> cartItemDao.updateProductQuantity(2L, 1L, 5))
+                .isInstanceOf(NotInCustomerCartItemException.class);
+
+        final Integer quantity = jdbcTemplate.queryForObject(
+                "SELECT quantity FROM cart_item WHERE id = ?", Integer.class, 1L);
+        assertThat(quantity).isEqualTo(1);
+    }
+
+    @DisplayName("장바구니 Id별 수량 목록을 넣으면, 한 번의 배치로 수량을 변경한다.")
+    @Test
+    void updateProductQuantities() {
+
+        // when
+        cartItemDao.updateProductQuantities(1L, List.of(
+                new CartQuantityRequest(1L, 5),
+                new CartQuantityRequest(2L, 7)));
+
+        // then
+        assertThat(cartItemDao.findCartsByCustomerId(1L))
+                .extracting(Cart::getId, Cart::getQuantity)
+                .containsExactlyInAnyOrder(tuple(1L, 5), tuple(2L, 7));
     }
 }
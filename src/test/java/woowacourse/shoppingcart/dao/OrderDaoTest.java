@@ -8,10 +8,13 @@ import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.context.jdbc.Sql;
+import woowacourse.shoppingcart.domain.OrderDetail;
+import woowacourse.shoppingcart.domain.Orders;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @JdbcTest
 @AutoConfigureTestDatabase(replace = Replace.NONE)
@@ -34,10 +37,11 @@ class OrderDaoTest {
         final Long customerId = 1L;
 
         //when
-        final Long orderId = orderDao.addOrders(customerId);
+        final Long orderId = orderDao.addOrders(customerId, 10_000L);
 
         //then
         assertThat(orderId).isNotNull();
+        assertThat(orderDao.findOrderById(orderId).getTotalPrice()).isEqualTo(10_000L);
     }
 
     @DisplayName("CustomerId 집합을 이용하여 OrderId 집합을 얻는 기능")
@@ -45,8 +49,8 @@ class OrderDaoTest {
     void findOrderIdsByCustomerId() {
         //given
         final Long customerId = 1L;
-        jdbcTemplate.update("INSERT INTO ORDERS (customer_id) VALUES (?)", customerId);
-        jdbcTemplate.update("INSERT INTO ORDERS (customer_id) VALUES (?)", customerId);
+        jdbcTemplate.update("INSERT INTO ORDERS (customer_id, total_price) VALUES (?, ?)", customerId, 0);
+        jdbcTemplate.update("INSERT INTO ORDERS (customer_id, total_price) VALUES (?, ?)", customerId, 0);
 
         //when
         final List<Long> orderIdsByCustomerId = orderDao.findOrderIdsByCustomerId(customerId);
@@ -55,4 +59,44 @@ class OrderDaoTest {
         assertThat(orderIdsByCustomerId).hasSize(2);
     }
 
+    @DisplayName("CustomerId로 주문 목록을 주문 당시의 상품 정보와 함께 한 번에 조회하는 기능")
+    @Test
+    void findOrdersByCustomerId() {
+        //given
+        final Long customerId = 1L;
+        final Long bananaId = 상품_추가("banana", 1_000, "banana.jpg");
+        final Long appleId = 상품_추가("apple", 2_000, "apple.jpg");
+
+        final Long orderId1 = orderDao.addOrders(customerId, 8_000L);
+        주문_상세_추가(orderId1, bananaId, "banana", 1_000, 2);
+        주문_상세_추가(orderId1, appleId, "apple", 2_000, 3);
+        final Long orderId2 = orderDao.addOrders(customerId, 8_000L);
+        주문_상세_추가(orderId2, appleId, "apple", 2_000, 4);
+        jdbcTemplate.update("UPDATE product SET price = ? WHERE id = ?", 9_999, appleId);
+        jdbcTemplate.update("DELETE FROM product WHERE id = ?", bananaId);
+
+        //when
+        final List<Orders> orders = orderDao.findOrdersByCustomerId(customerId);
+
+        //then
+        assertThat(orders).extracting(Orders::getId, Orders::getTotalPrice)
+                .containsExactly(tuple(orderId1, 8_000L), tuple(orderId2, 8_000L));
+        assertThat(orders.get(0).getOrderDetails())
+                .extracting(OrderDetail::getProductId, OrderDetail::getName, OrderDetail::getPrice, OrderDetail::getQuantity)
+                .containsExactly(tuple(bananaId, "banana", 1_000, 2), tuple(appleId, "apple", 2_000, 3));
+        assertThat(orders.get(1).getOrderDetails())
+                .extracting(OrderDetail::getProductId, OrderDetail::getQuantity)
+                .containsExactly(tuple(appleId, 4));
+    }
+
+    private Long 상품_추가(final String name, final int price, final String imageUrl) {
+        jdbcTemplate.update("INSERT INTO product (name, price, image_url) VALUES (?, ?, ?)", name, price, imageUrl);
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID();", Long.class);
+    }
+
+    private void 주문_상세_추가(final Long orderId, final Long productId, final String name, final int price,
+                          final int quantity) {
+        jdbcTemplate.update("INSERT INTO orders_detail (orders_id, product_id, quantity, name, price, image_url) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", orderId, productId, quantity, name, price, name + ".jpg");
+    }
 }
@@ -9,7 +9,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.context.jdbc.Sql;
-import woowacourse.shoppingcart.dto.OrderQuantityInfo;
+import woowacourse.shoppingcart.domain.OrderDetail;
 
 import java.util.List;
 
@@ -35,7 +35,7 @@ class OrdersDetailDaoTest {
     @BeforeEach
     void setUp() {
         customerId = 1L;
-        jdbcTemplate.update("INSERT INTO orders (customer_id) VALUES (?)", customerId);
+        jdbcTemplate.update("INSERT INTO orders (customer_id, total_price) VALUES (?, ?)", customerId, 0);
         ordersId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID();", Long.class);
 
         jdbcTemplate.update("INSERT INTO product (name, price, image_url) VALUES (?, ?, ?)"
@@ -43,36 +43,21 @@ class OrdersDetailDaoTest {
         productId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID();", Long.class);
     }
 
-    @DisplayName("OrderDatail을 추가하는 기능")
+    @DisplayName("여러 OrderDetail을 상품 이름과 가격과 함께 한 번에 추가하는 기능")
     @Test
-    void addOrdersDetail() {
+    void addOrdersDetails() {
         //given
-        int quantity = 5;
+        final List<OrderDetail> orderDetails = List.of(
+                new OrderDetail(productId, 1000, "name", "imageUrl", 2),
+                new OrderDetail(productId, 1000, "name", "imageUrl", 3)
+        );
 
         //when
-        Long orderDetailId = ordersDetailDao
-                .addOrdersDetail(ordersId, productId, quantity);
+        ordersDetailDao.addOrdersDetails(ordersId, orderDetails);
 
         //then
-        assertThat(orderDetailId).isEqualTo(1L);
-    }
-
-    @DisplayName("OrderId로 OrderDetails 조회하는 기능")
-    @Test
-    void findOrdersDetailsByOrderId() {
-        //given
-        final int insertCount = 3;
-        for (int i = 0; i < insertCount; i++) {
-            jdbcTemplate
-                    .update("INSERT INTO orders_detail (orders_id, product_id, quantity) VALUES (?, ?, ?)",
-                            ordersId, productId, 3);
-        }
-
-        //when
-        final List<OrderQuantityInfo> infosByOrderId = ordersDetailDao
-                .findOrderQuantityInfoByOrderId(ordersId);
-
-        //then
-        assertThat(infosByOrderId).hasSize(insertCount);
+        final List<Integer> quantities = jdbcTemplate.queryForList(
+                "SELECT quantity FROM orders_detail WHERE orders_id = ? ORDER BY id", Integer.class, ordersId);
+        assertThat(quantities).containsExactly(2, 3);
     }
 }
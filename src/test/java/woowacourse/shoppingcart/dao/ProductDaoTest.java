@@ -9,10 +9,12 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.context.jdbc.Sql;
 import woowacourse.shoppingcart.domain.Product;
+import woowacourse.shoppingcart.dto.ProductResponse;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @JdbcTest
 @AutoConfigureTestDatabase(replace = Replace.NONE)
@@ -21,8 +23,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class ProductDaoTest {
 
     private final ProductDao productDao;
+    private final JdbcTemplate jdbcTemplate;
 
     public ProductDaoTest(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
         this.productDao = new ProductDao(jdbcTemplate);
     }
 
@@ -72,6 +76,22 @@ public class ProductDaoTest {
         assertThat(products).size().isEqualTo(size);
     }
 
+    @DisplayName("커서 이후의 상품을 id 순서로 지정한 개수만큼 조회")
+    @Test
+    void findProductsAfter() {
+        // given
+        final Long productId1 = productDao.save(new Product("초콜렛", 1_000, "www.test.com"));
+        final Long productId2 = productDao.save(new Product("사탕", 500, "www.test.com"));
+        final Long productId3 = productDao.save(new Product("젤리", 700, "www.test.com"));
+        productDao.save(new Product("과자", 1_500, "www.test.com"));
+
+        // when
+        final List<Product> products = productDao.findProductsAfter(productId1, 2);
+
+        // then
+        assertThat(products).extracting(Product::getId).containsExactly(productId2, productId3);
+    }
+
     @DisplayName("싱품 삭제")
     @Test
     void deleteProduct() {
@@ -90,4 +110,51 @@ public class ProductDaoTest {
         final int afterSize = productDao.findProducts().size();
         assertThat(beforeSize - 1).isEqualTo(afterSize);
     }
+
+    @DisplayName("고객 Id로 상품 목록을 조회하면, 장바구니 정보가 함께 담긴다.")
+    @Test
+    void findProductsWithCart() {
+        // given
+        final Long customerId = 고객_추가("tester");
+        final Long otherCustomerId = 고객_추가("other");
+        final Long bananaId = productDao.save(new Product("banana", 1_000, "banana.jpg"));
+        final Long appleId = productDao.save(new Product("apple", 2_000, "apple.jpg"));
+        final Long cartId = 장바구니_추가(customerId, bananaId, 3);
+        장바구니_추가(otherCustomerId, appleId, 5);
+
+        // when
+        final List<ProductResponse> products = productDao.findProductsWithCartAfter(customerId, 0L, 10);
+
+        // then
+        assertThat(products)
+                .extracting(ProductResponse::getId, ProductResponse::getCartId, ProductResponse::getQuantity)
+                .containsExactly(tuple(bananaId, cartId, 3), tuple(appleId, null, 0));
+    }
+
+    @DisplayName("고객 Id와 상품 Id로 상품을 조회하면, 장바구니 정보가 함께 담긴다.")
+    @Test
+    void findProductWithCartById() {
+        // given
+        final Long customerId = 고객_추가("tester");
+        final Long productId = productDao.save(new Product("banana", 1_000, "banana.jpg"));
+        final Long cartId = 장바구니_추가(customerId, productId, 2);
+
+        // when
+        final ProductResponse product = productDao.findProductWithCartById(customerId, productId);
+
+        // then
+        assertThat(product).usingRecursiveComparison()
+                .isEqualTo(new ProductResponse(productId, "banana", 1_000, "banana.jpg", cartId, 2));
+    }
+
+    private Long 고객_추가(final String userName) {
+        jdbcTemplate.update("INSERT INTO customer (username, password) VALUES (?, ?)", userName, "password");
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID();", Long.class);
+    }
+
+    private Long 장바구니_추가(final Long customerId, final Long productId, final int quantity) {
+        jdbcTemplate.update("INSERT INTO cart_item (customer_id, product_id, quantity) VALUES (?, ?, ?)",
+                customerId, productId, quantity);
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID();", Long.class);
+    }
 }
@@ -0,0 +1,67 @@
+package woowacourse.shoppingcart.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Sql(scripts = {"classpath:schema.sql", "classpath:data.sql"})
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+public class SchemaIndexTest {
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchemaIndexTest(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @DisplayName("고객의 장바구니 아이템은 (customer_id, product_id) 유니크 인덱스로 조회한다.")
+    @Test
+    void cartItemByCustomerAndProduct() {
+        final String plan = explain("SELECT id FROM cart_item WHERE customer_id = 1 and product_id = 1");
+
+        assertThat(plan).containsIgnoringCase("UK_CART_ITEM_CUSTOMER_PRODUCT")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @DisplayName("고객의 주문 목록은 orders.customer_id 인덱스로 조회한다.")
+    @Test
+    void ordersByCustomer() {
+        final String plan = explain("SELECT id FROM orders WHERE customer_id = 1");
+
+        assertThat(plan).containsIgnoringCase("IX_ORDERS_CUSTOMER")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @DisplayName("주문 상세는 orders_detail.orders_id 인덱스로 조회한다.")
+    @Test
+    void ordersDetailByOrders() {
+        final String plan = explain("SELECT product_id, quantity FROM orders_detail WHERE orders_id = 1");
+
+        assertThat(plan).containsIgnoringCase("IX_ORDERS_DETAIL_ORDERS")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @DisplayName("같은 고객이 같은 상품을 장바구니에 두 번 담을 수 없다.")
+    @Test
+    void duplicateCartItem() {
+        jdbcTemplate.update("INSERT INTO product (name, price, image_url) VALUES ('banana', 1000, 'woowa1.com')");
+        jdbcTemplate.update("INSERT INTO cart_item (customer_id, product_id) VALUES (1, 1)");
+
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO cart_item (customer_id, product_id) VALUES (1, 1)"))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    private String explain(final String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -0,0 +1,37 @@
+package woowacourse.shoppingcart.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomerTest {
+
+    @DisplayName("형식에 맞는 이름과 비밀번호로 고객을 만든다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"Test1234*", "aB3!aB3!", "Test1234한글*"})
+    void createCustomer(String password) {
+        assertThatCode(() -> Customer.of("test_name1", password))
+                .doesNotThrowAnyException();
+    }
+
+    @DisplayName("이름에 소문자, 숫자, 언더스코어 외의 문자가 있으면 예외가 발생한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"TestName", "test-name", "test name", "테스트이름입니다"})
+    void invalidUserName(String userName) {
+        assertThatThrownBy(() -> Customer.of(userName, "Test1234*"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이름은 소문자, 숫자, 언더스코어만을 포함할 수 있습니다.");
+    }
+
+    @DisplayName("비밀번호에 소문자, 대문자, 숫자, 특수문자 중 하나라도 없으면 예외가 발생한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"TEST1234*", "test1234*", "Testtest*", "Test12345", "Test1234한"})
+    void invalidPassword(String password) {
+        assertThatThrownBy(() -> Customer.of("testname", password))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("비밀번호는 소문자, 대문자, 숫자, 특수문자를 모두 포함해야 합니다.");
+    }
+}
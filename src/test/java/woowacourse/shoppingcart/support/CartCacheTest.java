@@ -0,0 +1,77 @@
+package woowacourse.shoppingcart.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.jdbc.Sql;
+import woowacourse.shoppingcart.dao.CartItemDao;
+import woowacourse.shoppingcart.dao.ProductDao;
+import woowacourse.shoppingcart.domain.Cart;
+import woowacourse.shoppingcart.domain.Product;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Sql(scripts = {"classpath:schema.sql", "classpath:data.sql"})
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class CartCacheTest {
+    private final JdbcTemplate jdbcTemplate;
+    private final CartItemDao cartItemDao;
+    private final ProductDao productDao;
+    private CartCache cartCache;
+
+    CartCacheTest(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cartItemDao = new CartItemDao(jdbcTemplate);
+        this.productDao = new ProductDao(jdbcTemplate);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO customer (username, password) VALUES (?, ?)", "other_name", "password");
+        productDao.save(new Product("banana", 1_000, "woowa1.com"));
+        productDao.save(new Product("apple", 2_000, "woowa2.com"));
+        cartItemDao.addCartItem(1L, 1L);
+        cartItemDao.addCartItem(2L, 2L);
+        cartCache = new CartCache(cartItemDao, 100, Duration.ofMinutes(10));
+    }
+
+    @DisplayName("한 번 조회한 장바구니는 무효화되기 전까지 캐시에서 반환한다.")
+    @Test
+    void findCartsFromCache() {
+        cartCache.findCarts(1L);
+        setQuantity(1L, 5);
+
+        assertThat(cartCache.findCarts(1L)).extracting(Cart::getQuantity).containsExactly(1);
+
+        cartCache.invalidate(1L);
+
+        assertThat(cartCache.findCarts(1L)).extracting(Cart::getQuantity).containsExactly(5);
+    }
+
+    @DisplayName("상품이 바뀌면 그 상품을 담은 장바구니만 무효화한다.")
+    @Test
+    void invalidateByProduct() {
+        cartCache.findCarts(1L);
+        cartCache.findCarts(2L);
+        setQuantity(1L, 5);
+        setQuantity(2L, 7);
+
+        cartCache.invalidateByProduct(1L);
+
+        assertThat(cartCache.findCarts(1L)).extracting(Cart::getQuantity).containsExactly(5);
+        assertThat(cartCache.findCarts(2L)).extracting(Cart::getQuantity).containsExactly(1);
+    }
+
+    private void setQuantity(Long cartId, int quantity) {
+        jdbcTemplate.update("UPDATE cart_item SET quantity = ? WHERE id = ?", quantity, cartId);
+    }
+}
@@ -0,0 +1,155 @@
+package woowacourse.shoppingcart.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import woowacourse.shoppingcart.dao.CartItemDao;
+import woowacourse.shoppingcart.dao.OutboxDao;
+import woowacourse.shoppingcart.dao.ProductDao;
+import woowacourse.shoppingcart.domain.Cart;
+import woowacourse.shoppingcart.domain.Product;
+import woowacourse.shoppingcart.dto.CartQuantityRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Sql(scripts = {"classpath:schema.sql", "classpath:data.sql"})
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class CartQuantityBufferTest {
+    private final JdbcTemplate jdbcTemplate;
+    private final CartItemDao cartItemDao;
+    private final ProductDao productDao;
+    private final OutboxRecorder outboxRecorder;
+    private final CartCache cartCache;
+    private final PlatformTransactionManager transactionManager;
+    private CartQuantityBuffer buffer;
+
+    CartQuantityBufferTest(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cartItemDao = new CartItemDao(jdbcTemplate);
+        this.productDao = new ProductDao(jdbcTemplate);
+        this.outboxRecorder = new OutboxRecorder(new OutboxDao(jdbcTemplate), new ObjectMapper());
+        this.cartCache = new CartCache(cartItemDao, 100, Duration.ofMinutes(10));
+        this.transactionManager = transactionManager;
+    }
+
+    @BeforeEach
+    void setUp() {
+        productDao.save(new Product("banana", 1_000, "woowa1.com"));
+        productDao.save(new Product("apple", 2_000, "woowa2.com"));
+        cartItemDao.addCartItem(1L, 1L);
+        cartItemDao.addCartItem(1L, 2L);
+        buffer = newBuffer(cartItemDao, true);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        buffer.destroy();
+    }
+
+    @DisplayName("같은 장바구니의 수량 변경은 합쳐져서 flush 시점에 마지막 값만 기록된다.")
+    @Test
+    void coalesceUntilFlush() {
+        buffer.offer(1L, 1L, 2);
+        buffer.offer(1L, 1L, 5);
+        buffer.offer(1L, 2L, 3);
+
+        assertThat(quantityOf(1L)).isEqualTo(1);
+
+        buffer.flush(1L);
+
+        assertThat(quantityOf(1L)).isEqualTo(5);
+        assertThat(quantityOf(2L)).isEqualTo(3);
+        assertThat(quantityChangedEventCount(1L)).isEqualTo(1);
+    }
+
+    @DisplayName("다른 고객의 장바구니 Id로 들어온 수량 변경은 기록되지 않는다.")
+    @Test
+    void flushIgnoresOtherCustomersCart() {
+        buffer.offer(2L, 1L, 7);
+
+        buffer.flushAll();
+
+        assertThat(quantityOf(1L)).isEqualTo(1);
+        assertThat(quantityChangedEventCount(2L)).isZero();
+    }
+
+    @DisplayName("기록 중인 수량 변경은 기록이 끝날 때까지 버퍼에 남아 있어 그 사이의 flush도 이를 기록한다.")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void pendingUntilWritten() throws InterruptedException {
+        AtomicInteger writes = new AtomicInteger();
+        CartQuantityBuffer[] observed = new CartQuantityBuffer[1];
+        CartItemDao observingDao = new CartItemDao(jdbcTemplate) {
+            @Override
+            public Map<Long, List<CartQuantityRequest>> updateProductQuantities(
+                    Map<Long, List<CartQuantityRequest>> quantitiesByCustomerId) {
+                if (writes.incrementAndGet() == 1) {
+                    observed[0].flush(1L);
+                }
+                return super.updateProductQuantities(quantitiesByCustomerId);
+            }
+        };
+        observed[0] = newBuffer(observingDao, true);
+        observed[0].offer(1L, 1L, 4);
+
+        observed[0].flushAll();
+        observed[0].flush(1L);
+
+        assertThat(writes.get()).isEqualTo(2);
+        assertThat(quantityOf(1L)).isEqualTo(4);
+        observed[0].destroy();
+    }
+
+    @DisplayName("수량 변경 후 flush 전에 캐시된 장바구니는 flush가 커밋되면 무효화된다.")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void invalidateCacheOnFlush() {
+        buffer.offer(1L, 1L, 6);
+        assertThat(cartCache.findCarts(1L)).extracting(Cart::getQuantity).containsExactly(1, 1);
+
+        buffer.flush(1L);
+
+        assertThat(cartCache.findCarts(1L)).extracting(Cart::getQuantity).containsExactly(6, 1);
+    }
+
+    @DisplayName("비활성화되어 있으면 수량 변경을 받지 않는다.")
+    @Test
+    void disabled() throws InterruptedException {
+        CartQuantityBuffer disabled = newBuffer(cartItemDao, false);
+
+        assertThat(disabled.offer(1L, 1L, 2)).isFalse();
+        disabled.destroy();
+    }
+
+    private CartQuantityBuffer newBuffer(CartItemDao cartItemDao, boolean enabled) {
+        return new CartQuantityBuffer(cartItemDao, cartCache, outboxRecorder, transactionManager, enabled,
+                Duration.ofHours(1));
+    }
+
+    private int quantityChangedEventCount(Long customerId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox WHERE aggregate_id = ? AND event_type = ?",
+                Integer.class, customerId, OutboxRecorder.CART_QUANTITY_CHANGED);
+    }
+
+    private int quantityOf(Long cartId) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM cart_item WHERE id = ?", Integer.class, cartId);
+    }
+}
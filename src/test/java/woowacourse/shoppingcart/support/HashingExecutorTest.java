@@ -0,0 +1,46 @@
+package woowacourse.shoppingcart.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import woowacourse.shoppingcart.exception.ServiceUnavailableException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashingExecutorTest {
+    private final HashingExecutor hashingExecutor = new HashingExecutor(1, 1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hashingExecutor.destroy();
+    }
+
+    @DisplayName("스레드와 큐가 모두 차면 작업을 거절하고 ServiceUnavailableException을 던진다.")
+    @Test
+    void rejectWhenQueueIsFull() {
+        final CompletableFuture<String> running = hashingExecutor.submit(this::awaitRelease);
+        final CompletableFuture<String> queued = hashingExecutor.submit(this::awaitRelease);
+
+        assertThatThrownBy(() -> hashingExecutor.submit(this::awaitRelease))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("hashed");
+        assertThat(queued.join()).isEqualTo("hashed");
+    }
+
+    private String awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "hashed";
+    }
+}
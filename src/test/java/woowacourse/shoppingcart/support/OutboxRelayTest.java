@@ -0,0 +1,117 @@
+package woowacourse.shoppingcart.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.jdbc.Sql;
+import woowacourse.shoppingcart.dao.OutboxDao;
+import woowacourse.shoppingcart.domain.OutboxEvent;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Sql(scripts = {"classpath:schema.sql", "classpath:data.sql"})
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class OutboxRelayTest {
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxDao outboxDao;
+    private final InMemoryOutboxSink sink = new InMemoryOutboxSink();
+    private OutboxRelay relay;
+
+    OutboxRelayTest(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxDao = new OutboxDao(jdbcTemplate);
+    }
+
+    @BeforeEach
+    void setUp() {
+        outboxDao.save(List.of(
+                new OutboxEvent("cart", 1L, "CART_ITEM_ADDED", "{\"cartId\":1}"),
+                new OutboxEvent("cart", 1L, "CART_ITEM_ADDED", "{\"cartId\":2}"),
+                new OutboxEvent("order", 1L, "ORDER_PLACED", "{\"customerId\":1}")));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (relay != null) {
+            relay.destroy();
+        }
+    }
+
+    @DisplayName("아웃박스 이벤트를 id 순서대로 배치 발행하고, 발행한 행은 삭제한다.")
+    @Test
+    void relay() throws Exception {
+        relay = new OutboxRelay(outboxDao, sink, 2, Duration.ofHours(1));
+
+        int relayed = relay.relay();
+
+        assertThat(relayed).isEqualTo(3);
+        assertThat(sink.getEvents()).extracting(OutboxEvent::getEventType)
+                .containsExactly("CART_ITEM_ADDED", "CART_ITEM_ADDED", "ORDER_PLACED");
+        assertThat(outboxCount()).isZero();
+    }
+
+    @DisplayName("싱크가 발행에 실패하면 행을 남겨 두고 다음 발행에서 다시 보낸다.")
+    @Test
+    void relayAfterSinkFailure() throws Exception {
+        relay = new OutboxRelay(outboxDao, events -> {
+            throw new IllegalStateException("sink down");
+        }, 2, Duration.ofHours(1));
+
+        assertThatThrownBy(relay::relay).isInstanceOf(IllegalStateException.class);
+        assertThat(outboxCount()).isEqualTo(3);
+
+        relay.destroy();
+        relay = new OutboxRelay(outboxDao, sink, 2, Duration.ofHours(1));
+        assertThat(relay.relay()).isEqualTo(3);
+    }
+
+    @DisplayName("많은 항목을 담은 큰 이벤트도 잘리지 않고 발행한다.")
+    @Test
+    void relayLargePayload() throws Exception {
+        String item = "{\"name\":\"치킨\",\"imageUrl\":\"http://example.com/chicken.jpg\"},";
+        String payload = "{\"items\":[" + item.repeat(500) + "{}]}";
+        outboxDao.save(List.of(new OutboxEvent("order", 2L, "ORDER_PLACED", payload)));
+        relay = new OutboxRelay(outboxDao, sink, 10, Duration.ofHours(1));
+
+        relay.relay();
+
+        assertThat(sink.getEvents()).extracting(OutboxEvent::getPayload).contains(payload);
+    }
+
+    @DisplayName("늦게 커밋된 낮은 id의 행은 더 높은 id의 행이 계속 들어와도 다음 발행에서 보낸다.")
+    @Test
+    void relayLateCommittedRow() throws Exception {
+        relay = new OutboxRelay(outboxDao, sink, 10, Duration.ofHours(1));
+        insertOutbox(10L, "{\"cartId\":10}");
+        assertThat(relay.relay()).isEqualTo(4);
+
+        insertOutbox(5L, "{\"cartId\":5}");
+        insertOutbox(11L, "{\"cartId\":11}");
+        relay.relay();
+
+        assertThat(sink.getEvents()).extracting(OutboxEvent::getPayload)
+                .contains("{\"cartId\":5}", "{\"cartId\":11}");
+        assertThat(outboxCount()).isZero();
+    }
+
+    private void insertOutbox(Long id, String payload) {
+        jdbcTemplate.update("INSERT INTO outbox (id, aggregate_type, aggregate_id, event_type, payload) "
+                + "VALUES (?, 'cart', 1, 'CART_ITEM_ADDED', ?)", id, payload);
+    }
+
+    private int outboxCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Integer.class);
+    }
+}
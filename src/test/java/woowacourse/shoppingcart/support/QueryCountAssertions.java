@@ -0,0 +1,20 @@
+package woowacourse.shoppingcart.support;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.assertj.core.api.AbstractLongAssert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryCountAssertions {
+
+    public static long queryCount(ExtractableResponse<Response> response) {
+        String queryCount = response.header(QueryStatisticsFilter.QUERY_COUNT);
+        assertThat(queryCount).as(QueryStatisticsFilter.QUERY_COUNT + " 헤더").isNotNull();
+        return Long.parseLong(queryCount);
+    }
+
+    public static AbstractLongAssert<?> assertQueryCount(ExtractableResponse<Response> response) {
+        return assertThat(queryCount(response)).as("쿼리 수");
+    }
+}
@@ -0,0 +1,39 @@
+package woowacourse.shoppingcart.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SHA256EncryptorTest {
+    private final Encryptor encryptor = new SHA256Encryptor();
+
+    @DisplayName("기존 String.format(\"%02x\") 구현과 같은 16진수 문자열을 만든다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"", "Test1234*", "Abcdefgh12345!@#", "Test1234한글*"})
+    void sameAsFormattedHex(String plainText) throws NoSuchAlgorithmException {
+        assertThat(encryptor.encrypt(plainText)).isEqualTo(formattedHex(plainText));
+    }
+
+    @DisplayName("data.sql에 저장된 비밀번호 해시와 일치한다.")
+    @Test
+    void matchesStoredPassword() {
+        assertThat(encryptor.encrypt("Test1234*"))
+                .isEqualToIgnoringCase("7546DF0D5385F6A05D11C5A0388A5736466F31D5AB210FE486F377BD648459A5");
+    }
+
+    private String formattedHex(String plainText) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        StringBuilder builder = new StringBuilder();
+        for (byte b : messageDigest.digest(plainText.getBytes(StandardCharsets.UTF_8))) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+}
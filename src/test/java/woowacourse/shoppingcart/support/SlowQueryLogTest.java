@@ -0,0 +1,65 @@
+package woowacourse.shoppingcart.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(OutputCaptureExtension.class)
+class SlowQueryLogTest {
+
+    @DisplayName("기준 시간을 넘은 쿼리는 비밀번호 바인딩 값을 가리고 기록한다.")
+    @Test
+    void recordRedactsPassword(CapturedOutput output) throws InterruptedException {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(true, Duration.ofMillis(10), false, 10);
+
+        slowQueryLog.record(null, "INSERT INTO customer (username, password) VALUES (?, ?)",
+                Map.of(1, "puterism", 2, "encrypted-secret"), 0, Duration.ofMillis(20).toNanos());
+        slowQueryLog.record(null, "SELECT id FROM customer WHERE username = ? and password = ?",
+                Map.of(1, "puterism", 2, "encrypted-secret"), 0, Duration.ofMillis(20).toNanos());
+        slowQueryLog.destroy();
+
+        assertThat(output).contains("binds={1=puterism, 2=****}")
+                .doesNotContain("encrypted-secret");
+    }
+
+    @DisplayName("기준 시간보다 빠른 쿼리는 기록하지 않는다.")
+    @Test
+    void recordFastQuery(CapturedOutput output) throws InterruptedException {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(true, Duration.ofMillis(10), false, 10);
+
+        slowQueryLog.record(null, "SELECT id FROM product", Map.of(), 0, Duration.ofMillis(5).toNanos());
+        slowQueryLog.destroy();
+
+        assertThat(output).doesNotContain("slow query");
+    }
+
+    @DisplayName("배치 쿼리는 배치 크기와 마지막 행의 바인딩 값을 기록한다.")
+    @Test
+    void recordBatch(CapturedOutput output) throws InterruptedException {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(true, Duration.ofMillis(10), false, 10);
+
+        slowQueryLog.record(null, "UPDATE cart_item SET quantity = ? WHERE id = ?",
+                Map.of(1, 3, 2, 7L), 5, Duration.ofMillis(20).toNanos());
+        slowQueryLog.destroy();
+
+        assertThat(output).contains("batch=5 lastBinds={1=3, 2=7}");
+    }
+
+    @DisplayName("꺼져 있으면 느린 쿼리도 기록하지 않는다.")
+    @Test
+    void recordWhenDisabled(CapturedOutput output) throws InterruptedException {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(false, Duration.ofMillis(10), false, 10);
+
+        slowQueryLog.record(null, "SELECT id FROM product", Map.of(), 0, Duration.ofMillis(20).toNanos());
+        slowQueryLog.destroy();
+
+        assertThat(output).doesNotContain("slow query");
+    }
+}
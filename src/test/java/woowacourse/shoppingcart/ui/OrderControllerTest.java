@@ -8,14 +8,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import woowacourse.auth.application.AuthService;
 import woowacourse.auth.dto.TokenRequest;
 import woowacourse.auth.support.JwtTokenProvider;
+import woowacourse.shoppingcart.application.AsyncOrderService;
 import woowacourse.shoppingcart.application.OrderService;
 import woowacourse.shoppingcart.domain.OrderDetail;
 import woowacourse.shoppingcart.domain.Orders;
 import woowacourse.shoppingcart.dto.OrderRequest;
+import woowacourse.shoppingcart.exception.ServiceUnavailableException;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -30,6 +33,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@ActiveProfiles("test")
 public class OrderControllerTest {
 
     @Autowired
@@ -44,6 +48,9 @@ public class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private AsyncOrderService asyncOrderService;
+
     @DisplayName("CREATED와 Location을 반환한다.")
     @Test
     void addOrder() throws Exception {
@@ -53,6 +60,7 @@ public class OrderControllerTest {
         final Long cartId2 = 1L;
         final int quantity2 = 5;
         final String customerName = "puterism";
+        final Long customerId = 1L;
 
         final List<OrderRequest> requestDtos =
                 Arrays.asList(new OrderRequest(cartId, quantity), new OrderRequest(cartId2, quantity2));
@@ -61,7 +69,7 @@ public class OrderControllerTest {
         when(orderService.addOrder(any(), any()))
                 .thenReturn(expectedOrderId);
 
-        String accessToken = jwtTokenProvider.createToken(customerName);
+        String accessToken = jwtTokenProvider.createToken(customerName, customerId);
 
         // when // then
         mockMvc.perform(post("/api/customers/me/orders")
@@ -76,20 +84,46 @@ public class OrderControllerTest {
                         "/api/customers/me/orders/" + expectedOrderId));
     }
 
+    @DisplayName("비동기 주문 큐가 가득 차면 SERVICE_UNAVAILABLE과 Retry-After를 반환한다.")
+    @Test
+    void addOrderAsyncWhenQueueIsFull() throws Exception {
+        // given
+        final String customerName = "puterism";
+        final Long customerId = 1L;
+        final List<OrderRequest> requestDtos = Collections.singletonList(new OrderRequest(1L, 5));
+
+        when(asyncOrderService.accept(any(), any()))
+                .thenThrow(new ServiceUnavailableException());
+
+        String accessToken = jwtTokenProvider.createToken(customerName, customerId);
+
+        // when // then
+        mockMvc.perform(post("/api/customers/me/orders")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding("UTF-8")
+                        .content(objectMapper.writeValueAsString(requestDtos))
+                ).andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
     @DisplayName("사용자 이름과 주문 ID를 통해 단일 주문 내역을 조회하면, 단일 주문 내역을 받는다.")
     @Test
     void findOrder() throws Exception {
 
         // given
         final String customerName = "puterism";
+        final Long customerId = 1L;
         final Long orderId = 1L;
-        final Orders expected = new Orders(orderId,
+        final Orders expected = new Orders(orderId, 2_000L,
                 Collections.singletonList(new OrderDetail(2L, 1_000, "banana", "imageUrl", 2)));
 
         when(orderService.findOrderById(any(), any()))
                 .thenReturn(expected);
 
-        String accessToken = jwtTokenProvider.createToken(customerName);
+        String accessToken = jwtTokenProvider.createToken(customerName, customerId);
         // when // then
         mockMvc.perform(get("/api/customers/me/orders/" + orderId)
                         .header("Authorization", "Bearer " + accessToken)
@@ -97,6 +131,7 @@ public class OrderControllerTest {
                 ).andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("id").value(orderId))
+                .andExpect(jsonPath("totalPrice").value(2_000))
                 .andExpect(jsonPath("orderDetails[0].productId").value(2L))
                 .andExpect(jsonPath("orderDetails[0].price").value(1_000))
                 .andExpect(jsonPath("orderDetails[0].name").value("banana"))
@@ -109,17 +144,18 @@ public class OrderControllerTest {
     void findOrders() throws Exception {
         // given
         final String customerName = "puterism";
+        final Long customerId = 1L;
         final List<Orders> expected = Arrays.asList(
-                new Orders(1L, Collections.singletonList(
+                new Orders(1L, 2_000L, Collections.singletonList(
                         new OrderDetail(1L, 1_000, "banana", "imageUrl", 2))),
-                new Orders(2L, Collections.singletonList(
+                new Orders(2L, 8_000L, Collections.singletonList(
                         new OrderDetail(2L, 2_000, "apple", "imageUrl2", 4)))
         );
 
         when(orderService.findOrders(any()))
                 .thenReturn(expected);
 
-        String accessToken = jwtTokenProvider.createToken(customerName);
+        String accessToken = jwtTokenProvider.createToken(customerName, customerId);
 
         // when // then
         mockMvc.perform(get("/api/customers/me/orders/")